@@ -0,0 +1,66 @@
+package com.springboot.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// JwtVerificationFilter.verifyJws 에서 매 요청마다 실행되는 파싱 + 서명 검증 처리량 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class JwtTokenizerBenchmark {
+    private static final String SECRET_KEY = "jmh-benchmark-secret-key-for-hmac-sha-256-signing";
+
+    private JwtTokenizer jwtTokenizer;
+    private String jws;
+
+    @Setup
+    public void setUp() {
+        jwtTokenizer = new JwtTokenizer(null, null, null, SECRET_KEY, "default", 30, 420);
+        jws = Jwts.builder()
+                .setHeaderParam("kid", "default")
+                .claim("username", "bench@gmail.com")
+                .claim("roles", List.of("USER"))
+                .claim("memberId", 1L)
+                .setSubject("bench@gmail.com")
+                .setExpiration(jwtTokenizer.getTokenExpiration(30))
+                .setIssuedAt(new Date())
+                .signWith(Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    // 변경 전 방식: 요청마다 Base64 인코딩/디코딩, Key 생성, JwtParser 생성
+    @Benchmark
+    public Claims rebuildKeyAndParserPerRequest() {
+        String base64EncodedSecretKey = Encoders.BASE64.encode(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64EncodedSecretKey));
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(jws)
+                .getBody();
+    }
+
+    // 변경 후 방식: 미리 만들어 둔 Key, JwtParser 공유
+    @Benchmark
+    public Claims sharedPrecompiledParser() {
+        return jwtTokenizer.getClaims(jws).getBody();
+    }
+}
@@ -0,0 +1,105 @@
+package com.springboot.question;
+
+import com.springboot.SpringStartApplication;
+import com.springboot.member.entity.Member;
+import com.springboot.member.repository.MemberRepository;
+import com.springboot.question.dto.QuestionDto;
+import com.springboot.question.entity.Question;
+import com.springboot.question.mapper.QuestionMapper;
+import com.springboot.question.repository.QuestionRepository;
+import com.springboot.question.service.QuestionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 질문 목록 한 페이지(50개) 조회 비용 비교, 할당량은 -prof gc 의 gc.alloc.rate.norm 으로 확인
+// (build.gradle 의 jmh 설정에 gc profiler 포함)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuestionListBenchmark {
+    private static final int PAGE_SIZE = 50;
+
+    private ConfigurableApplicationContext context;
+    private QuestionRepository questionRepository;
+    private QuestionMapper questionMapper;
+    private QuestionService questionService;
+    private TransactionTemplate readWriteTransaction;
+    private TransactionTemplate readOnlyTransaction;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(SpringStartApplication.class)
+                .run("--server.port=0",
+                        "--jwt.key=jmh-benchmark-secret-key-for-hmac-sha-256-signing",
+                        "--jwt.token-store=memory",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=warn",
+                        "--logging.level.org.hibernate=warn");
+        questionRepository = context.getBean(QuestionRepository.class);
+        questionMapper = context.getBean(QuestionMapper.class);
+        questionService = context.getBean(QuestionService.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("questionId").descending());
+
+        readWriteTransaction.executeWithoutResult(status -> {
+            Member member = new Member();
+            member.setEmail("bench@gmail.com");
+            member.setPassword("1111");
+            member.setName("벤치");
+            member.setPhone("010-0000-0000");
+            context.getBean(MemberRepository.class).save(member);
+            for (int i = 0; i < PAGE_SIZE * 4; i++) {
+                Question question = new Question();
+                question.setTitle("질문" + i);
+                question.setContent("내용" + i);
+                question.setMember(member);
+                questionRepository.save(question);
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // 변경 전 방식: 쓰기 트랜잭션에서 엔티티 조회 (행마다 스냅샷 복사, 커밋 시 dirty checking)
+    @Benchmark
+    public List<QuestionDto.Response> readWriteEntities() {
+        return readWriteTransaction.execute(status ->
+                questionMapper.questionsToQuestionResponses(questionRepository.findAll(pageable).getContent()));
+    }
+
+    // readOnly 트랜잭션에서 엔티티 조회 (스냅샷 / dirty checking 생략)
+    @Benchmark
+    public List<QuestionDto.Response> readOnlyEntities() {
+        return readOnlyTransaction.execute(status ->
+                questionMapper.questionsToQuestionResponses(questionRepository.findAll(pageable).getContent()));
+    }
+
+    // 변경 후 방식: readOnly 트랜잭션 + 응답 DTO projection, 비밀글 제목은 쿼리의 CASE 에서 가림
+    @Benchmark
+    public List<QuestionDto.Response> readOnlyProjection() {
+        return questionService.findQuestions(1, PAGE_SIZE, "newest", false, 1L, false).getContent();
+    }
+}
@@ -0,0 +1,43 @@
+package com.springboot.question;
+
+import com.springboot.question.viewer.HyperLogLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// 질문 하나의 조회자 viewers 명 (각 2회 조회) 집계 비용 비교
+// 메모리는 -prof gc 의 gc.alloc.rate.norm (집합 / sketch 를 매번 새로 만들므로 보관 크기와 거의 같음)
+// 정확도는 HyperLogLogTest 에서 확인
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UniqueViewerBenchmark {
+    @Param({"1000", "100000"})
+    private int viewers;
+
+    @Benchmark
+    public long exactSet() {
+        Set<Long> memberIds = new HashSet<>();
+        for (int view = 0; view < viewers * 2; view++) {
+            memberIds.add((long) (view % viewers));
+        }
+        return memberIds.size();
+    }
+
+    @Benchmark
+    public long hyperLogLog() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int view = 0; view < viewers * 2; view++) {
+            sketch.offer(view % viewers);
+        }
+        return sketch.estimate();
+    }
+}
@@ -1,6 +1,7 @@
 package com.springboot.answer.dto;
 
 import com.springboot.validator.NotSpace;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -34,6 +35,7 @@ public class AnswerDto {
     @Getter
     @Setter
     @NoArgsConstructor
+    @AllArgsConstructor
     public static class Response{
         private long answerId;
         private String content;
@@ -6,7 +6,9 @@ import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
 import com.springboot.member.entity.Member;
 import com.springboot.member.service.MemberService;
+import com.springboot.question.cache.QuestionPageCache;
 import com.springboot.question.entity.Question;
+import com.springboot.question.ranking.HotQuestionRanking;
 import com.springboot.question.service.QuestionService;
 import com.springboot.utils.AuthorizationUtils;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -20,11 +22,16 @@ public class AnswerService {
     private final AnswerRepository answerRepository;
     private final MemberService memberService;
     private final QuestionService questionService;
+    private final QuestionPageCache questionPageCache;
+    private final HotQuestionRanking hotQuestionRanking;
 
-    public AnswerService(AnswerRepository answerRepository, MemberService memberService, QuestionService questionService) {
+    public AnswerService(AnswerRepository answerRepository, MemberService memberService, QuestionService questionService,
+                         QuestionPageCache questionPageCache, HotQuestionRanking hotQuestionRanking) {
         this.answerRepository = answerRepository;
         this.memberService = memberService;
         this.questionService = questionService;
+        this.questionPageCache = questionPageCache;
+        this.hotQuestionRanking = hotQuestionRanking;
     }
 
     public Answer createAnswer(Answer answer) {
@@ -39,7 +46,12 @@ public class AnswerService {
             answer.setAnswerStatus(Answer.AnswerStatus.ANSWER_SECRET);
         }
         // 저장
-        return answerRepository.save(answer);
+        Answer savedAnswer = answerRepository.save(answer);
+        // 목록에 보이는 답변, 질문 상태 변경
+        questionPageCache.evictQuestion(question.getQuestionId());
+        hotQuestionRanking.recordAnswer(question.getQuestionId());
+        hotQuestionRanking.refresh(question.getQuestionId());
+        return savedAnswer;
     }
 
     @PreAuthorize("hasRole('ROLE_ADMIN')")
@@ -51,7 +63,10 @@ public class AnswerService {
         // 내용이 바뀌었으면 바꾼 후 저장
         Optional.ofNullable(answer.getContent())
                 .ifPresent(content -> findAnswer.setContent(content));
-        return answerRepository.save(findAnswer);
+        Answer savedAnswer = answerRepository.save(findAnswer);
+        questionPageCache.evictQuestion(findAnswer.getQuestion().getQuestionId());
+        hotQuestionRanking.refresh(findAnswer.getQuestion().getQuestionId());
+        return savedAnswer;
     }
 
     @Transactional
@@ -63,6 +78,8 @@ public class AnswerService {
         Answer answer = findVerifiedAnswer(answerId);
         questionService.setAnswerNull(answer.getQuestion().getQuestionId());
         answerRepository.deleteById(answerId);
+        questionPageCache.evictQuestion(answer.getQuestion().getQuestionId());
+        hotQuestionRanking.refresh(answer.getQuestion().getQuestionId());
     }
 
     // 질문에 답변이 있는지 검증 후 질문 객체 반환
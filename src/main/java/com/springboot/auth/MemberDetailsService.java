@@ -33,23 +33,32 @@ public class MemberDetailsService implements UserDetailsService {
         return new MemberDetails(findMember);
     }
 
+    // 토큰 발급 이후 탈퇴 등으로 회원 상태가 바뀌었는지 확인
+    public void verifyMemberStatus(long memberId, int statusVersion) {
+        Integer currentVersion = memberRepository.findStatusVersion(memberId, Member.MemberStatus.MEMBER_ACTIVE)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.INVALID_MEMBER_STATUS));
+        if (currentVersion != statusVersion) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_MEMBER_STATUS);
+        }
+    }
+
     public final class MemberDetails extends Member implements UserDetails{
 
         MemberDetails(Member member){
             setMemberId(member.getMemberId());
             setEmail(member.getEmail());
             setPassword(member.getPassword());
-            setRoles(member.getRoles());
+            setRoleMask(member.getRoleMask());
             setName(member.getName());
             setPhone(member.getPhone());
             setMemberStatus(member.getMemberStatus());
-            setQuestions(member.getQuestions());
+            setStatusVersion(member.getStatusVersion());
         }
 
         // 사용자의 역할 기반으로 권한 목록 생성 및 반환
         @Override
         public Collection<? extends GrantedAuthority> getAuthorities() {
-            return authorityUtils.createAuthorities(this.getRoles());
+            return authorityUtils.createAuthorities(this.getRoleMask());
         }
 
         @Override
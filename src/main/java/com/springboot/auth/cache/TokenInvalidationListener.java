@@ -0,0 +1,41 @@
+package com.springboot.auth.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+
+// 다른 노드에서 로그아웃된 username 을 받아 로컬 캐시에서 제거
+// memory 토큰 저장소는 단일 노드 전용이라 구독하지 않음
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.token-store", havingValue = "redis", matchIfMissing = true)
+public class TokenInvalidationListener implements MessageListener {
+    private final TokenNearCache tokenNearCache;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    public TokenInvalidationListener(TokenNearCache tokenNearCache, RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.tokenNearCache = tokenNearCache;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String username = new String(message.getBody(), StandardCharsets.UTF_8);
+        tokenNearCache.invalidate(username);
+        log.debug("# token near cache invalidated : {}", username);
+    }
+
+    // 공용 컨테이너에 채널 등록, 구독은 기동 완료 후 컨테이너가 시작
+    // Redis에 연결하지 못해도 캐시 항목은 max-staleness 이후 만료됨
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(TokenNearCache.INVALIDATION_TOPIC));
+    }
+}
@@ -0,0 +1,106 @@
+package com.springboot.auth.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Redis 토큰 allowlist 조회 결과를 로컬에 잠깐 보관하는 캐시
+// 확인된 access token 의 fingerprint 를 같이 보관해서 같은 토큰일 때만 생략 (재발급 전 토큰은 다시 Redis 조회)
+// 로그인 / 재발급 / 로그아웃 시 pub/sub 으로 모든 노드에서 무효화되고, 메시지를 놓쳐도 max-staleness 이후엔 다시 Redis 조회
+// 모든 항목의 유지 시간이 같으므로 저장 순서 = 만료 순서, 가득 차면 큐 앞(가장 먼저 만료될 항목)부터 제거
+@Component
+public class TokenNearCache {
+    public static final String INVALIDATION_TOPIC = "token-invalidation";
+
+    private final long maxStalenessMillis;
+    private final int maximumSize;
+    // username -> 확인된 access token fingerprint + 만료 시각(ms)
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // 저장 순서대로 쌓인 항목, 교체 / 무효화된 항목은 꺼낼 때 건너뜀
+    private final Queue<Entry> expiryQueue = new ConcurrentLinkedQueue<>();
+    // 큐 길이 (ConcurrentLinkedQueue.size() 는 O(n))
+    private final AtomicInteger queued = new AtomicInteger();
+
+    public TokenNearCache(@Value("${jwt.token-cache.max-staleness-seconds:5}") long maxStalenessSeconds,
+                          @Value("${jwt.token-cache.maximum-size:10000}") int maximumSize) {
+        this.maxStalenessMillis = TimeUnit.SECONDS.toMillis(maxStalenessSeconds);
+        this.maximumSize = maximumSize;
+    }
+
+    // 캐시에 같은 access token 의 유효한 확인 결과가 있는지 확인
+    public boolean contains(String username, String accessTokenId){
+        Entry entry = entries.get(username);
+        if(entry == null){
+            return false;
+        }
+        if(entry.expiresAt < System.currentTimeMillis()){
+            entries.remove(username, entry);
+            return false;
+        }
+        return entry.accessTokenId.equals(accessTokenId);
+    }
+
+    // Redis에서 저장된 access token 과 같다고 확인된 경우에만 저장
+    public void put(String username, String accessTokenId){
+        if(maxStalenessMillis <= 0){
+            return;
+        }
+        Entry entry = new Entry(username, accessTokenId, System.currentTimeMillis() + maxStalenessMillis);
+        entries.put(username, entry);
+        expiryQueue.add(entry);
+        queued.incrementAndGet();
+        // 교체된 항목이 큐에 쌓여도 maximumSize 의 2배를 넘지 않도록 제한
+        while(entries.size() > maximumSize || queued.get() > maximumSize * 2){
+            if(!pollOldest()){
+                break;
+            }
+        }
+    }
+
+    public void invalidate(String username){
+        entries.remove(username);
+    }
+
+    public int size(){
+        return entries.size();
+    }
+
+    // 요청이 없어도 만료된 항목이 메모리에 남지 않도록 큐 앞의 만료된 항목 정리
+    @Scheduled(fixedDelayString = "${jwt.token-cache.sweep-millis:5000}")
+    public void sweep(){
+        long now = System.currentTimeMillis();
+        Entry oldest;
+        while((oldest = expiryQueue.peek()) != null && oldest.expiresAt < now){
+            pollOldest();
+        }
+    }
+
+    private boolean pollOldest(){
+        Entry oldest = expiryQueue.poll();
+        if(oldest == null){
+            return false;
+        }
+        queued.decrementAndGet();
+        entries.remove(oldest.username, oldest);
+        return true;
+    }
+
+    private static final class Entry {
+        private final String username;
+        private final String accessTokenId;
+        private final long expiresAt;
+
+        private Entry(String username, String accessTokenId, long expiresAt) {
+            this.username = username;
+            this.accessTokenId = accessTokenId;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -2,23 +2,31 @@ package com.springboot.auth.controller;
 
 
 import com.springboot.auth.CustomPrincipal;
+import com.springboot.auth.dto.TokenDto;
+import com.springboot.auth.jwt.SigningKeyRotation;
 import com.springboot.auth.service.AuthService;
-import com.springboot.member.service.MemberService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 
 @RestController
-@RequestMapping("/auth")
+@RequestMapping({"/auth", "/qna/auth"})
 public class AuthController {
     private final AuthService authService;
+    private final SigningKeyRotation signingKeyRotation;
 
-    public AuthController(AuthService authService) {
+    public AuthController(AuthService authService, SigningKeyRotation signingKeyRotation) {
         this.authService = authService;
+        this.signingKeyRotation = signingKeyRotation;
     }
 
     @PostMapping("/logout")
@@ -29,5 +37,31 @@ public class AuthController {
         authService.logout(username);
         return new ResponseEntity(HttpStatus.OK);
     }
-}
 
+    // 로그인 응답의 Refresh 헤더 값으로 토큰 재발급, 로그인과 같은 헤더로 응답
+    @PostMapping("/refresh")
+    public ResponseEntity postRefresh(@RequestHeader("Refresh") String refreshToken){
+        TokenDto tokens = authService.reissueTokens(refreshToken);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "Bearer " + tokens.getAccessToken());
+        headers.set("Refresh", tokens.getRefreshToken());
+        return ResponseEntity.ok().headers(headers).build();
+    }
+
+    // 서명 키 교체 (관리자), jwt.keys.<kid> 로 모든 노드에 배포된 키만 가능
+    @PostMapping("/signing-keys/{key-id}/activate")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity postActivateSigningKey(@PathVariable("key-id") String keyId){
+        signingKeyRotation.activate(keyId);
+        return new ResponseEntity(HttpStatus.OK);
+    }
+
+    // 이전 서명 키 폐기 (관리자), 이 키로 서명된 토큰은 더 이상 검증되지 않음
+    @DeleteMapping("/signing-keys/{key-id}")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity deleteSigningKey(@PathVariable("key-id") String keyId){
+        signingKeyRotation.retire(keyId);
+        return new ResponseEntity(HttpStatus.NO_CONTENT);
+    }
+}
@@ -3,9 +3,15 @@ package com.springboot.auth.filter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.springboot.auth.dto.LoginDto;
 import com.springboot.auth.jwt.JwtTokenizer;
+import com.springboot.auth.jwt.SignedToken;
+import com.springboot.auth.utils.ErrorResponder;
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
 import com.springboot.member.entity.Member;
 import lombok.SneakyThrows;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -16,7 +22,6 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Map;
 
 // 폼로그인이 아니더라도 username/password 기반의 인증 처리 위한 확장 구현
@@ -42,7 +47,17 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(loginDto.getUsername(), loginDto.getPassword());
 
         // UsernamePasswordAuthenticationToken -> AuthenticationManager 로 전달하면서 인증 처리를 위임
-        return authenticationManager.authenticate(authenticationToken);
+        try {
+            return authenticationManager.authenticate(authenticationToken);
+        } catch (RuntimeException e) {
+            // 비밀번호 검증 스레드 풀이 가득 찬 경우 기다리지 않고 바로 503 응답, null 반환 시 필터 체인 중단
+            if (!isPasswordHashingBusy(e)) {
+                throw e;
+            }
+            response.setHeader("Retry-After", "1");
+            ErrorResponder.sendErrorResponse(response, HttpStatus.SERVICE_UNAVAILABLE);
+            return null;
+        }
     }
 
     // 클라이언트의 인증 정보를 이용해 인증에 성공할 경우 호출
@@ -56,18 +71,21 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         // 인증된 Authentication 객체가 생성되면서 principal 필드에 Member 객체가 할당
         Member member = (Member) authResult.getPrincipal();
 
+        Map<String, Object> claims = jwtTokenizer.createMemberClaims(member);
         // Access Token 생성
-        String accessToken = delegateAccessToken(member);
+        SignedToken accessToken = delegateAccessToken(member, claims);
         // Refresh Token 생성
-        String refreshToken = delegateRefreshToken(member, accessToken);
+        SignedToken refreshToken = delegateRefreshToken(member, claims);
+        // 두 토큰을 Redis에 한 번에 등록
+        jwtTokenizer.registerTokens(member.getEmail(), accessToken, refreshToken);
 
         // response header(Authorization)에 Access Token 추가
         // 애플리케이션 측에 요청을 보낼 때마다 request header 에 추가해서 클라이언트 측의 자격을 증명하는 데 사용
-        response.setHeader("Authorization", "Bearer " + accessToken);
+        response.setHeader("Authorization", "Bearer " + accessToken.getJws());
         // response header(Refresh)에 Refresh Token 추가
         // refresh 토큰은 Access 토큰이 만료될 경우 새로 발급 받을 때 쓰이고,
         // access 토큰을 발급할 때 refresh 토큰도 같이 새로 발급 받으면 여러 문제 방지
-        response.setHeader("Refresh", refreshToken);
+        response.setHeader("Refresh", refreshToken.getJws());
 
         // onAuthenticationSuccess() 메서드를 호출하면
         // 구현한 MemberAuthenticationSuccessHandler onAuthenticationSuccess() 메서드가 알아서 호출
@@ -75,28 +93,27 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         this.getSuccessHandler().onAuthenticationSuccess(request, response, authResult);
     }
 
-    private String delegateAccessToken(Member member){
-        Map<String, Object> claims = new HashMap<>();
-        claims.put("username", member.getEmail());
-        claims.put("roles", member.getRoles());
-        claims.put("memberId", member.getMemberId());
+    // 사용자 조회 단계에서 발생하면 InternalAuthenticationServiceException 으로 감싸져서 전달됨
+    private boolean isPasswordHashingBusy(Throwable e){
+        Throwable cause = e instanceof InternalAuthenticationServiceException ? e.getCause() : e;
+        return cause instanceof BusinessLogicException
+                && ((BusinessLogicException) cause).getExceptionCode() == ExceptionCode.PASSWORD_HASHING_BUSY;
+    }
 
+    private SignedToken delegateAccessToken(Member member, Map<String, Object> claims){
         String subject = member.getEmail();
         Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getAccessTokenExpirationMinutes());
 
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
-
-        String accessToken = jwtTokenizer.generateAccessToken(claims, subject, expiration, base64EncodedSecretKey);
+        SignedToken accessToken = jwtTokenizer.generateAccessToken(claims, subject, expiration);
 
         return accessToken;
     }
 
-    private String delegateRefreshToken(Member member, String accessToken){
+    private SignedToken delegateRefreshToken(Member member, Map<String, Object> claims){
         String subject = member.getEmail();
         Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getRefreshTokenExpirationMinutes());
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
 
-        String refreshToken = jwtTokenizer.generateRefreshToken(subject, expiration, base64EncodedSecretKey, accessToken);
+        SignedToken refreshToken = jwtTokenizer.generateRefreshToken(claims, subject, expiration);
 
         return refreshToken;
     }
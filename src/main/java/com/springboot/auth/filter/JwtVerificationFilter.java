@@ -2,13 +2,15 @@ package com.springboot.auth.filter;
 
 import com.springboot.auth.CustomPrincipal;
 import com.springboot.auth.MemberDetailsService;
+import com.springboot.auth.cache.TokenNearCache;
 import com.springboot.auth.jwt.JwtTokenizer;
+import com.springboot.auth.token.TokenFingerprint;
 import com.springboot.auth.utils.AuthorityUtils;
 import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.security.SignatureException;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -29,13 +31,20 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
     private final JwtTokenizer jwtTokenizer;
     private final AuthorityUtils authorityUtils;
     private final MemberDetailsService memberDetailsService;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final TokenNearCache tokenNearCache;
+    // true 면 Claims 만으로 principal 생성 (요청마다 회원 조회 X)
+    private final boolean statelessPrincipal;
+    // true 면 Claims 의 statusVersion 과 회원의 현재 상태 버전 비교
+    private final boolean memberStatusCheck;
 
-    public JwtVerificationFilter(JwtTokenizer jwtTokenizer, AuthorityUtils authorityUtils, MemberDetailsService memberDetailsService, RedisTemplate<String, Object> redisTemplate) {
+    public JwtVerificationFilter(JwtTokenizer jwtTokenizer, AuthorityUtils authorityUtils, MemberDetailsService memberDetailsService, TokenNearCache tokenNearCache,
+                                 boolean statelessPrincipal, boolean memberStatusCheck) {
         this.jwtTokenizer = jwtTokenizer;
         this.authorityUtils = authorityUtils;
         this.memberDetailsService = memberDetailsService;
-        this.redisTemplate = redisTemplate;
+        this.tokenNearCache = tokenNearCache;
+        this.statelessPrincipal = statelessPrincipal;
+        this.memberStatusCheck = memberStatusCheck;
     }
 
     @Override
@@ -77,11 +86,14 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
         // -->  여기는 클라이언트가 response header 로 전달받은 JWT를 request header에 추가해서 서버 측에 전송함.
         // 변수명 jws -> 서명된 JWT를 JWS(JSON Web Token Signed)라고 부르기 때문
         String jws = request.getHeader("Authorization").replace("Bearer ", "");
-        //  JWT 서명(Signature)을 검증하기 위한 Secret Key
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
         // JWT에서 Claims 파싱 -> 내부적으로 서명(Signature) 검증에 성공했다는 의미
         // Claims가 정상적으로 파싱이 되면 서명 검증 역시 자연스럽게 성공한거임.
-        Map<String, Object> claims = jwtTokenizer.getClaims(jws, base64EncodedSecretKey).getBody();
+        // 서명 키와 parser는 JwtTokenizer 생성 시 한 번만 만들어 공유
+        Map<String, Object> claims = jwtTokenizer.getClaims(jws).getBody();
+        // refresh token 은 재발급에만 사용 가능
+        if (JwtTokenizer.REFRESH_TOKEN_TYPE.equals(claims.get(JwtTokenizer.TOKEN_TYPE_CLAIM))) {
+            throw new IllegalStateException("Refresh token can not be used as access token");
+        }
 
         return claims;
     }
@@ -92,10 +104,17 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
         String username = (String) claims.get("username");
         // Claims에서 얻은 권한 정보를 기반으로 List<GrantedAuthority를 생성
         List<GrantedAuthority> authorities = authorityUtils.createAuthorities((List) claims.get("roles"));
-        // UserDetailsService를 통해 MemberDetails 가져오기
-        MemberDetailsService.MemberDetails memberDetails = (MemberDetailsService.MemberDetails) memberDetailsService.loadUserByUsername(username);
+        // stateless 모드면 Claims 의 memberId 사용, 아니면 UserDetailsService를 통해 MemberDetails 가져오기
+        Long memberId = statelessPrincipal && claims.get("memberId") != null
+                ? ((Number) claims.get("memberId")).longValue()
+                : ((MemberDetailsService.MemberDetails) memberDetailsService.loadUserByUsername(username)).getMemberId();
+        // 탈퇴 등 상태 변경 확인 (statusVersion 없는 이전 토큰은 0으로 취급)
+        if (memberStatusCheck) {
+            Number statusVersion = (Number) claims.get("statusVersion");
+            memberDetailsService.verifyMemberStatus(memberId, statusVersion == null ? 0 : statusVersion.intValue());
+        }
         //customPrincipal 객체 생성
-        CustomPrincipal customPrincipal = new CustomPrincipal(username, memberDetails.getMemberId());
+        CustomPrincipal customPrincipal = new CustomPrincipal(username, memberId);
         // username과 List<GrantedAuthority를 포함한 Authentication 객체를 생성
         Authentication authentication = new UsernamePasswordAuthenticationToken(customPrincipal, null, authorities);
         // SecurityContext에 Authentication 객체를 저장
@@ -107,10 +126,15 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
     private void isTokenValidInRedis (Map<String, Object> claims){
         String username = Optional.ofNullable((String) claims.get("username"))
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USERNAME_NOT_FOUND));
-        Boolean hasey = redisTemplate.hasKey(username);
-
-        if(Boolean.FALSE.equals(hasey)){
-            throw new IllegalStateException("Redis key Does Not Exist for username : " + username);
+        // jti 가 없는 토큰은 예외 (저장소와 비교할 수 없음)
+        String accessTokenId = TokenFingerprint.of((String) claims.get(Claims.ID));
+        // 최근에 확인된 토큰이면 Redis 왕복 생략
+        if(tokenNearCache.contains(username, accessTokenId)){
+            return;
+        }
+        if(!jwtTokenizer.isRegisteredToken(username, accessTokenId)){
+            throw new IllegalStateException("Redis key Does Not Match for username : " + username);
         }
+        tokenNearCache.put(username, accessTokenId);
     }
 }
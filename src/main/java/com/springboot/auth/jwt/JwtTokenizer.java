@@ -2,105 +2,193 @@ package com.springboot.auth.jwt;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import com.springboot.auth.cache.TokenNearCache;
+import com.springboot.auth.token.TokenFingerprint;
+import com.springboot.auth.token.TokenStore;
+import com.springboot.auth.token.TokenStoreCircuitBreaker;
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import com.springboot.member.entity.Member;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Duration;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class JwtTokenizer {
-    private final RedisTemplate<String, Object> redisTemplate;
+    // refresh token 구분용 claim, access token 으로 사용되지 않도록 검증 필터에서 확인
+    public static final String TOKEN_TYPE_CLAIM = "tokenType";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+    // 처음 로그인한 세션의 만료 시각(ms), refresh token 에만 담고 재발급해도 늘어나지 않음
+    public static final String SESSION_EXPIRES_AT_CLAIM = "sessionExpiresAt";
+    // access / refresh token 에 공통으로 담는 회원 정보
+    private static final List<String> MEMBER_CLAIM_NAMES = List.of("username", "roles", "memberId", "statusVersion");
+
+    private final TokenStore tokenStore;
+    // 저장소 장애 시 요청이 타임아웃까지 묶이지 않도록 모든 저장소 호출은 circuit breaker 경유
+    private final TokenStoreCircuitBreaker circuitBreaker;
+    private final TokenNearCache tokenNearCache;
 
     @Getter
-    @Value("${jwt.key}")
-    private String secretKey;
+    private final String secretKey;
 
+    // 설정 파일의 기본 kid, kid 헤더가 없는 토큰도 이 키로 검증
     @Getter
-    @Value("${jwt.access-token-expiration-minutes}")
-    private int accessTokenExpirationMinutes;
+    private final String defaultKeyId;
 
     @Getter
-    @Value("${jwt.refresh-token-expiration-minutes}")
-    private int refreshTokenExpirationMinutes;
+    private final int accessTokenExpirationMinutes;
 
-    public JwtTokenizer(RedisTemplate<String, Object> redisTemplate) {
-        this.redisTemplate = redisTemplate;
+    @Getter
+    private final int refreshTokenExpirationMinutes;
+
+    // kid 별 서명 키, 키를 교체해도 이전 키로 서명된 토큰은 만료 전까지 검증 가능
+    private final Map<String, Key> signingKeys = new ConcurrentHashMap<>();
+
+    // 새 토큰 서명에 사용하는 kid
+    @Getter
+    private volatile String activeKeyId;
+
+    // JwtParser는 불변 + thread-safe 이므로 한 번만 만들어서 모든 요청이 공유
+    private final JwtParser jwtParser;
+
+    public JwtTokenizer(TokenStore tokenStore,
+                        TokenStoreCircuitBreaker circuitBreaker,
+                        TokenNearCache tokenNearCache,
+                        @Value("${jwt.key}") String secretKey,
+                        @Value("${jwt.key-id:default}") String defaultKeyId,
+                        @Value("${jwt.access-token-expiration-minutes}") int accessTokenExpirationMinutes,
+                        @Value("${jwt.refresh-token-expiration-minutes}") int refreshTokenExpirationMinutes) {
+        this.tokenStore = tokenStore;
+        this.circuitBreaker = circuitBreaker;
+        this.tokenNearCache = tokenNearCache;
+        this.secretKey = secretKey;
+        this.defaultKeyId = defaultKeyId;
+        this.accessTokenExpirationMinutes = accessTokenExpirationMinutes;
+        this.refreshTokenExpirationMinutes = refreshTokenExpirationMinutes;
+
+        registerSigningKey(defaultKeyId, secretKey);
+        this.activeKeyId = defaultKeyId;
+        // 헤더의 kid로 검증 키를 찾는 parser
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    // JwsHeader 는 상위 타입의 시그니처를 그대로 따름
+                    @Override
+                    @SuppressWarnings("rawtypes")
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveSigningKeyById(header.getKeyId());
+                    }
+                })
+                .build();
     }
 
-    // Plain형태 Secret Key Base64형식으로 인코딩
-    public String encodeBase64SecretKey(String secretKey){
-        return Encoders.BASE64.encode(secretKey.getBytes(StandardCharsets.UTF_8));
+    // 로그인한 회원 정보로 claims 생성
+    public Map<String, Object> createMemberClaims(Member member){
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("username", member.getEmail());
+        claims.put("roles", member.getRoles());
+        claims.put("memberId", member.getMemberId());
+        claims.put("statusVersion", member.getStatusVersion());
+        return claims;
+    }
+
+    // refresh token 의 claims 에서 회원 정보만 복사 (재발급용)
+    public Map<String, Object> copyMemberClaims(Claims claims){
+        Map<String, Object> memberClaims = new HashMap<>();
+        MEMBER_CLAIM_NAMES.forEach(name -> memberClaims.put(name, claims.get(name)));
+        return memberClaims;
     }
 
     // 인증 후 JWT 최초 발급용 생성 메서드
-    public String generateAccessToken(Map<String, Object> claims,
+    public SignedToken generateAccessToken(Map<String, Object> claims,
                                       String subject,
-                                      Date expiration,
-                                      String base64EncodedSecretKey){
-        // Base64 형식 Secret Key 문자열을 이용해 Key 객체 생성
-        Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
-
-        String accessToken =  Jwts.builder()
+                                      Date expiration){
+        return signToken(Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
                 .setIssuedAt(Calendar.getInstance().getTime())
-                .setExpiration(expiration)
-                .signWith(key)
-                .compact();
-
-        // 식별하기 위한 유저 정보 필요
-        ValueOperations<String, Object> valueOperations = redisTemplate.opsForValue();
-        valueOperations.set((String) claims.get("username"), accessToken, accessTokenExpirationMinutes, TimeUnit.MINUTES);
-        return accessToken;
+                .setExpiration(expiration));
     }
 
     // refresh Token 생성 메서드
-    public String generateRefreshToken(String subject, Date expiration, String base64EncodedSecretKey, String accessToken){
-        Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
-
-        String refreshToken =  Jwts.builder()
+    // 재발급 시 회원 조회 없이 access token 을 만들 수 있도록 access token 과 같은 claims 포함
+    // 세션 만료 시각이 없으면 (로그인) 이 토큰의 만료 시각으로 시작
+    public SignedToken generateRefreshToken(Map<String, Object> claims, String subject, Date expiration){
+        Map<String, Object> refreshClaims = new HashMap<>(claims);
+        refreshClaims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE);
+        refreshClaims.putIfAbsent(SESSION_EXPIRES_AT_CLAIM, expiration.getTime());
+        return signToken(Jwts.builder()
+                .setClaims(refreshClaims)
                 .setSubject(subject)
                 .setIssuedAt(Calendar.getInstance().getTime())
-                .setExpiration(expiration)
-                .signWith(key)
-                .compact();
+                .setExpiration(expiration));
+    }
 
-        ValueOperations<String, Object> valueOperations = redisTemplate.opsForValue();
-        valueOperations.set(accessToken, refreshToken, refreshTokenExpirationMinutes, TimeUnit.MINUTES);
-        return refreshToken;
+    // 발급한 access, refresh 토큰을 토큰 저장소에 한 번에 등록 (원본 대신 jti fingerprint 저장)
+    public void registerTokens(String username, SignedToken accessToken, SignedToken refreshToken){
+        String accessTokenId = TokenFingerprint.of(accessToken.getTokenId());
+        String refreshTokenId = TokenFingerprint.of(refreshToken.getTokenId());
+        circuitBreaker.execute("register", () -> {
+            tokenStore.register(username, accessTokenId, refreshTokenId,
+                    Duration.ofMinutes(accessTokenExpirationMinutes), Duration.ofMinutes(refreshTokenExpirationMinutes));
+            return null;
+        }, JwtTokenizer::tokenStoreUnavailable);
     }
 
-    // jws에서 claims 추출 메서드
-    public Jws<Claims> getClaims(String jws, String base64EncodedSecretKey){
-        Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
+    // 저장된 refresh token 이 제출된 토큰(검증한 claims 의 jti)과 같을 때만 새 토큰으로 교체
+    // 새 refresh token 은 세션 만료 시각까지만 저장
+    public boolean rotateTokens(String username, String refreshTokenJti, SignedToken newAccessToken, SignedToken newRefreshToken,
+                                Date refreshExpiration){
+        String refreshTokenId = TokenFingerprint.of(refreshTokenJti);
+        String newAccessTokenId = TokenFingerprint.of(newAccessToken.getTokenId());
+        String newRefreshTokenId = TokenFingerprint.of(newRefreshToken.getTokenId());
+        Duration refreshTokenTtl = Duration.ofMillis(Math.max(refreshExpiration.getTime() - System.currentTimeMillis(), 1));
+        return circuitBreaker.execute("rotate", () -> tokenStore.rotate(username, refreshTokenId,
+                        newAccessTokenId, newRefreshTokenId,
+                        Duration.ofMinutes(accessTokenExpirationMinutes), refreshTokenTtl),
+                JwtTokenizer::tokenStoreUnavailable);
+    }
+
+    // 토큰 저장소에 저장된 access token 이 이 토큰인지 확인 (재발급 / 다시 로그인 전 토큰은 거절)
+    // 저장소 장애 중이면 fallback 설정에 따라 거절하거나 서명만으로 잠시 허용
+    public boolean isRegisteredToken(String username, String accessTokenId){
+        return circuitBreaker.execute("exists", () -> tokenStore.matchesAccessToken(username, accessTokenId),
+                circuitBreaker::trustSignatureOnly);
+    }
+
+    // refresh token 의 세션 만료 시각, 없는 이전 토큰은 토큰 자체의 만료 시각
+    public Date getSessionExpiration(Claims refreshClaims){
+        Number sessionExpiresAt = (Number) refreshClaims.get(SESSION_EXPIRES_AT_CLAIM);
+        return sessionExpiresAt == null ? refreshClaims.getExpiration() : new Date(sessionExpiresAt.longValue());
+    }
 
+    // jws에서 claims 추출 메서드
+    public Jws<Claims> getClaims(String jws){
         // JWS 파싱해서 Claims 추출
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(jws);
+        return jwtParser.parseClaimsJws(jws);
     }
 
     // signature 위/변조 확인만 할때
-    public void verifySignature(String jws, String base64EncodedSecretKey){
-        Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
-        Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(jws);
+    public void verifySignature(String jws){
+        jwtParser.parseClaimsJws(jws);
     }
 
     // Token 만료일자 추출
@@ -110,23 +198,54 @@ public class JwtTokenizer {
         return calendar.getTime();
     }
 
-    // 서명에 사용할 Secret Key 생성
-    private Key getKeyFromBase64EncodedKey(String base64EncodedSecretKey){
-        // Secret Key를 디코딩 한 후 byte array로 반환
-        byte[] keyBytes = Decoders.BASE64.decode(base64EncodedSecretKey);
-        // array 기반으로 HMAC 알고리즘 적용한 Key 객체 생성 후 반환
-        return Keys.hmacShaKeyFor(keyBytes);
+    // 재시작 없이 서명 키 교체, 이후 발급되는 토큰은 새 kid로 서명 (SigningKeyRotation 에서 호출)
+    public void rotateSigningKey(String keyId, String plainSecretKey){
+        registerSigningKey(keyId, plainSecretKey);
+        this.activeKeyId = keyId;
+    }
+
+    // 더 이상 검증에 쓰지 않을 키 제거 (현재 서명 키는 제거 불가)
+    public boolean retireSigningKey(String keyId){
+        if(keyId.equals(activeKeyId)){
+            throw new BusinessLogicException(ExceptionCode.SIGNING_KEY_ACTIVE);
+        }
+        return signingKeys.remove(keyId) != null;
+    }
+
+    // 검증용 키만 추가 (다른 노드에서 먼저 교체된 키로 서명된 토큰 검증용)
+    public void registerSigningKey(String keyId, String plainSecretKey){
+        // Plain 형태 Secret Key의 byte array 기반으로 HMAC 알고리즘 적용한 Key 객체 생성
+        signingKeys.put(keyId, Keys.hmacShaKeyFor(plainSecretKey.getBytes(StandardCharsets.UTF_8)));
     }
 
-    // 로그아웃 시 레디스에서 email을 기준으로 access, refresh 토큰 삭제 메서드
+    // 현재 kid의 키로 서명 후 compact, 토큰마다 고유한 jti 부여
+    private SignedToken signToken(JwtBuilder builder){
+        String keyId = activeKeyId;
+        String tokenId = UUID.randomUUID().toString();
+        String jws = builder
+                .setId(tokenId)
+                .setHeaderParam(JwsHeader.KEY_ID, keyId)
+                .signWith(signingKeys.get(keyId))
+                .compact();
+        return new SignedToken(jws, tokenId);
+    }
+
+    // kid로 서명 키 조회, kid가 없는 토큰은 기본 키 사용
+    private Key resolveSigningKeyById(String keyId){
+        return Optional.ofNullable(signingKeys.get(keyId == null ? defaultKeyId : keyId))
+                .orElseThrow(() -> new SignatureException("Unknown signing key id : " + keyId));
+    }
+
+    // 로그아웃 시 토큰 저장소에서 email을 기준으로 access, refresh 토큰 삭제 메서드
+    // Redis 저장소는 다른 노드 캐시 무효화 메시지를 삭제 스크립트 안에서 같이 발행
     public boolean deleteRegisterToken(String username){
-        return Optional.ofNullable(redisTemplate.hasKey(username))
-                .filter(Boolean::booleanValue)
-                .map(hasKey -> {
-                    String accessToken = (String) redisTemplate.opsForValue().get(username);
-                    redisTemplate.delete(username);
-                    redisTemplate.delete(accessToken);
-                    return true;
-                }).orElse(false);
+        boolean isDeleted = circuitBreaker.execute("revoke", () -> tokenStore.revoke(username),
+                JwtTokenizer::tokenStoreUnavailable);
+        tokenNearCache.invalidate(username);
+        return isDeleted;
+    }
+
+    private static <T> T tokenStoreUnavailable(){
+        throw new BusinessLogicException(ExceptionCode.TOKEN_STORE_UNAVAILABLE);
     }
 }
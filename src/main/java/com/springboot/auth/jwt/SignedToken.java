@@ -0,0 +1,12 @@
+package com.springboot.auth.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 서명한 토큰과 토큰에 넣은 jti (저장소 등록 시 토큰을 다시 파싱하지 않도록 같이 반환)
+@Getter
+@AllArgsConstructor
+public class SignedToken {
+    private final String jws;
+    private final String tokenId;
+}
@@ -0,0 +1,107 @@
+package com.springboot.auth.jwt;
+
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// 서명 키 교체 / 폐기 (관리자 요청)
+// 키 원문은 jwt.keys.<kid> 설정 (환경 변수 JWT_KEYS_<KID>) 으로만 배포하고 노드 사이에는 kid 만 전달
+// 설정된 키는 기동 시 모두 검증 키로 등록, 다른 노드가 먼저 교체해도 새 kid 로 서명된 토큰을 바로 검증
+// 현재 kid 는 Redis 에 저장해서 재시작한 노드도 같은 키로 서명 (memory 토큰 저장소는 단일 노드라 저장 / 전달 X)
+@Slf4j
+@Component
+public class SigningKeyRotation {
+    public static final String ROTATION_TOPIC = "signing-key-rotation";
+    public static final String ACTIVE_KEY_ID_KEY = "jwt:active-key-id";
+    // 교체 메시지 : "activate:<kid>" 서명 키 교체, "retire:<kid>" 검증 키 제거
+    private static final String ACTIVATE_PREFIX = "activate:";
+    private static final String RETIRE_PREFIX = "retire:";
+
+    private final JwtTokenizer jwtTokenizer;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final boolean fanOut;
+    // kid -> 키 원문 (기본 키 포함)
+    private final Map<String, String> configuredKeys;
+
+    public SigningKeyRotation(JwtTokenizer jwtTokenizer,
+                              RedisTemplate<String, Object> redisTemplate,
+                              Environment environment,
+                              @Value("${jwt.token-store:redis}") String tokenStore) {
+        this.jwtTokenizer = jwtTokenizer;
+        this.redisTemplate = redisTemplate;
+        this.fanOut = "redis".equalsIgnoreCase(tokenStore);
+        this.configuredKeys = Binder.get(environment)
+                .bind("jwt.keys", Bindable.mapOf(String.class, String.class))
+                .orElseGet(Map::of);
+        configuredKeys.forEach(jwtTokenizer::registerSigningKey);
+    }
+
+    // 이 노드에서 교체하고 다른 노드로 전달
+    public void activate(String keyId){
+        activateLocally(keyId);
+        if(fanOut){
+            // Redis 장애 시 이 노드만 교체, 다른 노드는 이전 키로 계속 서명하지만 새 kid 토큰도 검증 가능
+            try {
+                redisTemplate.opsForValue().set(ACTIVE_KEY_ID_KEY, keyId);
+                redisTemplate.convertAndSend(ROTATION_TOPIC, ACTIVATE_PREFIX + keyId);
+            } catch (Exception e) {
+                log.warn("# signing key rotation publish failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    // 현재 서명 키는 폐기 불가, 폐기한 키로 서명된 토큰은 모든 노드에서 거절
+    // 설정에서 빼지 않으면 재시작한 노드에는 다시 등록되므로 폐기 후 jwt.keys 에서도 제거
+    public void retire(String keyId){
+        if(!jwtTokenizer.retireSigningKey(keyId)){
+            throw new BusinessLogicException(ExceptionCode.SIGNING_KEY_NOT_FOUND);
+        }
+        if(fanOut){
+            try {
+                redisTemplate.convertAndSend(ROTATION_TOPIC, RETIRE_PREFIX + keyId);
+            } catch (Exception e) {
+                log.warn("# signing key rotation publish failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    // 다른 노드에서 받은 교체 메시지 적용, 이 노드에 설정되지 않은 kid 면 무시
+    public void apply(String message){
+        try {
+            if(message.startsWith(ACTIVATE_PREFIX)){
+                activateLocally(message.substring(ACTIVATE_PREFIX.length()));
+            } else if(message.startsWith(RETIRE_PREFIX)){
+                jwtTokenizer.retireSigningKey(message.substring(RETIRE_PREFIX.length()));
+            }
+        } catch (BusinessLogicException e) {
+            log.warn("# signing key rotation ignored : {} ({})", message, e.getMessage());
+        }
+    }
+
+    // 기동 시 Redis 에 저장된 현재 kid 로 교체
+    public void restore(){
+        Object keyId = redisTemplate.opsForValue().get(ACTIVE_KEY_ID_KEY);
+        if(keyId != null && !keyId.equals(jwtTokenizer.getActiveKeyId())){
+            apply(ACTIVATE_PREFIX + keyId);
+        }
+    }
+
+    private void activateLocally(String keyId){
+        String secretKey = keyId.equals(jwtTokenizer.getDefaultKeyId())
+                ? jwtTokenizer.getSecretKey()
+                : configuredKeys.get(keyId);
+        if(secretKey == null){
+            throw new BusinessLogicException(ExceptionCode.SIGNING_KEY_NOT_FOUND);
+        }
+        jwtTokenizer.rotateSigningKey(keyId, secretKey);
+        log.info("# signing key activated : {}", keyId);
+    }
+}
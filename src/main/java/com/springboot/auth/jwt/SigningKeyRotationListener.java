@@ -0,0 +1,50 @@
+package com.springboot.auth.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+
+// 다른 노드의 서명 키 교체 / 폐기를 받아 이 노드에도 적용
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.token-store", havingValue = "redis", matchIfMissing = true)
+public class SigningKeyRotationListener implements MessageListener {
+    private final SigningKeyRotation signingKeyRotation;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    public SigningKeyRotationListener(SigningKeyRotation signingKeyRotation, RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.signingKeyRotation = signingKeyRotation;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        signingKeyRotation.apply(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // 공용 컨테이너에 채널 등록, 구독은 기동 완료 후 컨테이너가 시작
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(SigningKeyRotation.ROTATION_TOPIC));
+    }
+
+    // 컨테이너가 구독을 시작한 뒤 (RedisRepositoryConfig), 구독 전에 교체된 kid 는 Redis 에서 읽어서 적용
+    // Redis에 연결하지 못하면 설정의 기본 kid 로 서명 (다른 노드의 새 kid 토큰도 검증 가능)
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        try {
+            signingKeyRotation.restore();
+        } catch (Exception e) {
+            log.warn("# signing key restore failed: {}", e.getMessage());
+        }
+    }
+}
@@ -1,18 +1,31 @@
 package com.springboot.auth.service;
 
+import com.springboot.auth.dto.TokenDto;
 import com.springboot.auth.jwt.JwtTokenizer;
+import com.springboot.auth.jwt.SignedToken;
 import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
+import com.springboot.member.entity.Member;
+import com.springboot.member.repository.MemberRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
 @Service
 @Transactional
 public class AuthService {
     private final JwtTokenizer jwtTokenizer;
+    private final MemberRepository memberRepository;
 
-    public AuthService(JwtTokenizer jwtTokenizer) {
+    public AuthService(JwtTokenizer jwtTokenizer, MemberRepository memberRepository) {
         this.jwtTokenizer = jwtTokenizer;
+        this.memberRepository = memberRepository;
     }
 
     public void logout(String username){
@@ -21,4 +34,54 @@ public class AuthService {
             throw new BusinessLogicException(ExceptionCode.LOGOUT_FAILED);
         }
     }
+
+    // refresh token 으로 access / refresh token 재발급 (비밀번호 확인 없음)
+    // 저장된 refresh token 과 일치할 때만 교체되므로 이미 사용된 refresh token 은 거절
+    // 역할 / 상태 버전은 PK 조회 한 번으로 현재 값 사용 (권한이 바뀐 회원은 다음 재발급부터 반영, 탈퇴 회원은 거절)
+    // 새 refresh token 도 처음 로그인한 세션의 만료 시각을 넘지 않음 (재발급을 반복해도 세션이 늘어나지 않음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TokenDto reissueTokens(String refreshToken){
+        Claims claims = verifyRefreshToken(refreshToken);
+        String username = claims.getSubject();
+        Map<String, Object> memberClaims = jwtTokenizer.copyMemberClaims(claims);
+        Number memberId = (Number) memberClaims.get("memberId");
+        if(memberId == null){
+            throw new BusinessLogicException(ExceptionCode.INVALID_REFRESH_TOKEN);
+        }
+        MemberRepository.TokenClaims current = memberRepository
+                .findTokenClaims(memberId.longValue(), Member.MemberStatus.MEMBER_ACTIVE)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.INVALID_REFRESH_TOKEN));
+        memberClaims.put("roles", Member.Role.names(current.getRoleMask()));
+        memberClaims.put("statusVersion", current.getStatusVersion());
+
+        Date sessionExpiration = jwtTokenizer.getSessionExpiration(claims);
+        Date refreshExpiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getRefreshTokenExpirationMinutes());
+        if(refreshExpiration.after(sessionExpiration)){
+            refreshExpiration = sessionExpiration;
+        }
+        Map<String, Object> refreshClaims = new HashMap<>(memberClaims);
+        refreshClaims.put(JwtTokenizer.SESSION_EXPIRES_AT_CLAIM, sessionExpiration.getTime());
+
+        SignedToken accessToken = jwtTokenizer.generateAccessToken(memberClaims, username,
+                jwtTokenizer.getTokenExpiration(jwtTokenizer.getAccessTokenExpirationMinutes()));
+        SignedToken newRefreshToken = jwtTokenizer.generateRefreshToken(refreshClaims, username, refreshExpiration);
+
+        if(!jwtTokenizer.rotateTokens(username, claims.getId(), accessToken, newRefreshToken, refreshExpiration)){
+            throw new BusinessLogicException(ExceptionCode.INVALID_REFRESH_TOKEN);
+        }
+        return new TokenDto(accessToken.getJws(), newRefreshToken.getJws());
+    }
+
+    // 서명, 만료, 토큰 종류 확인
+    private Claims verifyRefreshToken(String refreshToken){
+        try {
+            Claims claims = jwtTokenizer.getClaims(refreshToken).getBody();
+            if(!JwtTokenizer.REFRESH_TOKEN_TYPE.equals(claims.get(JwtTokenizer.TOKEN_TYPE_CLAIM))){
+                throw new BusinessLogicException(ExceptionCode.INVALID_REFRESH_TOKEN);
+            }
+            return claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_REFRESH_TOKEN);
+        }
+    }
 }
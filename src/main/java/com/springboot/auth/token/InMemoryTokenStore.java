@@ -0,0 +1,103 @@
+package com.springboot.auth.token;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Redis 없이 동작하는 단일 노드용 토큰 저장소
+// username -> (access token 식별자, refresh token 식별자) 를 한 항목으로 저장
+// 만료는 조회 시점에 바로 반영하고, 만료된 항목 정리는 timer wheel 이 처리
+@Component
+@ConditionalOnProperty(name = "jwt.token-store", havingValue = "memory")
+public class InMemoryTokenStore implements TokenStore {
+    private static final int WHEEL_SIZE = 512;
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final TimerWheel timerWheel;
+
+    public InMemoryTokenStore(@Value("${jwt.memory-token-store.tick-millis:1000}") long tickMillis) {
+        this.timerWheel = new TimerWheel("token-store-expiry", tickMillis, WHEEL_SIZE);
+    }
+
+    @Override
+    public void register(String username, String accessTokenId, String refreshTokenId,
+                         Duration accessTokenTtl, Duration refreshTokenTtl) {
+        store(username, Session.of(accessTokenId, refreshTokenId, accessTokenTtl, refreshTokenTtl));
+    }
+
+    // 같은 username 에 대한 교체는 compute 안에서 순서대로 처리 (같은 refresh token 으로는 한 번만 성공)
+    @Override
+    public boolean rotate(String username, String refreshTokenId, String newAccessTokenId, String newRefreshTokenId,
+                          Duration accessTokenTtl, Duration refreshTokenTtl) {
+        Session rotated = Session.of(newAccessTokenId, newRefreshTokenId, accessTokenTtl, refreshTokenTtl);
+        long now = System.currentTimeMillis();
+        Session result = sessions.computeIfPresent(username, (key, session) ->
+                session.refreshTokenId.equals(refreshTokenId) && session.refreshExpiresAt > now ? rotated : session);
+        if (result != rotated) {
+            return false;
+        }
+        timerWheel.schedule(rotated.refreshExpiresAt, () -> expire(username));
+        return true;
+    }
+
+    @Override
+    public boolean revoke(String username) {
+        Session session = sessions.remove(username);
+        return session != null && session.accessExpiresAt > System.currentTimeMillis();
+    }
+
+    @Override
+    public boolean exists(String username) {
+        Session session = sessions.get(username);
+        return session != null && session.accessExpiresAt > System.currentTimeMillis();
+    }
+
+    @Override
+    public boolean matchesAccessToken(String username, String accessTokenId) {
+        Session session = sessions.get(username);
+        return session != null && session.accessExpiresAt > System.currentTimeMillis()
+                && session.accessTokenId.equals(accessTokenId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timerWheel.stop();
+    }
+
+    private void store(String username, Session session) {
+        sessions.put(username, session);
+        timerWheel.schedule(session.refreshExpiresAt, () -> expire(username));
+    }
+
+    // 다시 등록되어 만료 시각이 바뀐 항목은 남겨둠
+    private void expire(String username) {
+        sessions.computeIfPresent(username, (key, session) ->
+                session.refreshExpiresAt <= System.currentTimeMillis() ? null : session);
+    }
+
+    private static final class Session {
+        private final String accessTokenId;
+        private final String refreshTokenId;
+        private final long accessExpiresAt;
+        private final long refreshExpiresAt;
+
+        private Session(String accessTokenId, String refreshTokenId, long accessExpiresAt, long refreshExpiresAt) {
+            this.accessTokenId = accessTokenId;
+            this.refreshTokenId = refreshTokenId;
+            this.accessExpiresAt = accessExpiresAt;
+            this.refreshExpiresAt = refreshExpiresAt;
+        }
+
+        private static Session of(String accessTokenId, String refreshTokenId,
+                                  Duration accessTokenTtl, Duration refreshTokenTtl) {
+            long now = System.currentTimeMillis();
+            return new Session(accessTokenId, refreshTokenId,
+                    now + accessTokenTtl.toMillis(), now + refreshTokenTtl.toMillis());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.springboot.auth.token;
+
+import com.springboot.auth.cache.TokenNearCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+// Redis 에 토큰 저장
+// 등록 / 삭제는 Lua 스크립트로 한 번의 왕복 안에서 원자적으로 처리 (동시 로그인/로그아웃 경합 방지)
+// username -> access token 식별자, rt:{username} -> refresh token 식별자
+@Component
+@ConditionalOnProperty(name = "jwt.token-store", havingValue = "redis", matchIfMissing = true)
+public class RedisTokenStore implements TokenStore {
+    private static final RedisScript<Long> REGISTER_SCRIPT = loadScript("scripts/register-token.lua");
+    private static final RedisScript<Long> REVOKE_SCRIPT = loadScript("scripts/revoke-token.lua");
+    private static final RedisScript<Long> ROTATE_SCRIPT = loadScript("scripts/rotate-token.lua");
+
+    // refresh token 키 prefix (username 키와 구분)
+    static final String REFRESH_KEY_PREFIX = "rt:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public RedisTokenStore(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    // 등록 / 교체 / 삭제 모두 다른 노드 캐시 무효화 메시지를 스크립트 안에서 같이 발행 (이전 access token 캐시 제거)
+    @Override
+    public void register(String username, String accessTokenId, String refreshTokenId,
+                         Duration accessTokenTtl, Duration refreshTokenTtl){
+        redisTemplate.execute(REGISTER_SCRIPT, keys(username), accessTokenId, refreshTokenId,
+                String.valueOf(accessTokenTtl.toMillis()), String.valueOf(refreshTokenTtl.toMillis()),
+                TokenNearCache.INVALIDATION_TOPIC);
+    }
+
+    @Override
+    public boolean rotate(String username, String refreshTokenId, String newAccessTokenId, String newRefreshTokenId,
+                          Duration accessTokenTtl, Duration refreshTokenTtl){
+        Long rotated = redisTemplate.execute(ROTATE_SCRIPT, keys(username), refreshTokenId, newAccessTokenId,
+                newRefreshTokenId, String.valueOf(accessTokenTtl.toMillis()), String.valueOf(refreshTokenTtl.toMillis()),
+                TokenNearCache.INVALIDATION_TOPIC);
+        return rotated != null && rotated == 1L;
+    }
+
+    @Override
+    public boolean revoke(String username){
+        Long deleted = redisTemplate.execute(REVOKE_SCRIPT, keys(username), TokenNearCache.INVALIDATION_TOPIC);
+        return deleted != null && deleted == 1L;
+    }
+
+    @Override
+    public boolean exists(String username){
+        return Boolean.TRUE.equals(redisTemplate.hasKey(username));
+    }
+
+    @Override
+    public boolean matchesAccessToken(String username, String accessTokenId){
+        return accessTokenId.equals(redisTemplate.opsForValue().get(username));
+    }
+
+    private static List<String> keys(String username){
+        return List.of(username, REFRESH_KEY_PREFIX + username);
+    }
+
+    private static RedisScript<Long> loadScript(String path){
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
@@ -0,0 +1,93 @@
+package com.springboot.auth.token;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 만료 작업용 hashed timer wheel
+// 만료 시각을 tick 단위 슬롯에 나눠 담고, 한 tick 마다 현재 슬롯만 확인하므로 등록 / 만료 처리가 O(1)
+// 한 바퀴보다 먼 만료 시각은 같은 슬롯에 남아 있다가 해당 tick 이 되면 실행
+@Slf4j
+final class TimerWheel {
+    private final long tickMillis;
+    private final int mask;
+    private final Queue<Timeout>[] buckets;
+    private final ScheduledExecutorService ticker;
+    // ticker 스레드에서만 변경
+    private long lastTick;
+
+    TimerWheel(String name, long tickMillis, int wheelSize) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two : " + wheelSize);
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.buckets = newBuckets(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.lastTick = System.currentTimeMillis() / tickMillis;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 제네릭 배열은 직접 만들 수 없으므로 와일드카드 배열을 만들어 변환 (원소는 모두 Queue<Timeout>)
+    @SuppressWarnings("unchecked")
+    private static Queue<Timeout>[] newBuckets(int wheelSize) {
+        return (Queue<Timeout>[]) new Queue<?>[wheelSize];
+    }
+
+    // deadline(ms) 이후 처음 도는 tick 에서 task 실행
+    void schedule(long deadlineMillis, Runnable task) {
+        long deadlineTick = (deadlineMillis + tickMillis - 1) / tickMillis;
+        buckets[(int) (deadlineTick & mask)].add(new Timeout(deadlineTick, task));
+    }
+
+    void stop() {
+        ticker.shutdownNow();
+    }
+
+    private void advance() {
+        long currentTick = System.currentTimeMillis() / tickMillis;
+        // 밀린 tick 은 최대 한 바퀴까지 몰아서 처리
+        long fromTick = Math.max(lastTick + 1, currentTick - mask);
+        for (long tick = fromTick; tick <= currentTick; tick++) {
+            expire(buckets[(int) (tick & mask)], currentTick);
+        }
+        lastTick = currentTick;
+    }
+
+    private void expire(Queue<Timeout> bucket, long currentTick) {
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.deadlineTick <= currentTick) {
+                iterator.remove();
+                try {
+                    timeout.task.run();
+                } catch (RuntimeException e) {
+                    log.warn("# timer wheel task failed", e);
+                }
+            }
+        }
+    }
+
+    private static final class Timeout {
+        private final long deadlineTick;
+        private final Runnable task;
+
+        private Timeout(long deadlineTick, Runnable task) {
+            this.deadlineTick = deadlineTick;
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.springboot.auth.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+// 토큰 저장소에 원본 JWT 대신 넣는 고정 길이 식별자
+// jti 의 SHA-256 앞 16바이트(128bit)를 base64url 로 인코딩 -> 항상 22자
+public final class TokenFingerprint {
+    private static final int LENGTH_BYTES = 16;
+    // MessageDigest 는 thread-safe 하지 않으므로 스레드마다 하나씩 재사용
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private TokenFingerprint() {
+    }
+
+    public static String of(String tokenId) {
+        if (tokenId == null || tokenId.isEmpty()) {
+            throw new IllegalArgumentException("Token id(jti) is required");
+        }
+        byte[] digest = SHA_256.get().digest(tokenId.getBytes(StandardCharsets.UTF_8));
+        return ENCODER.encodeToString(Arrays.copyOf(digest, LENGTH_BYTES));
+    }
+}
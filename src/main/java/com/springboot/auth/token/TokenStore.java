@@ -0,0 +1,24 @@
+package com.springboot.auth.token;
+
+import java.time.Duration;
+
+// 로그인한 사용자의 access / refresh 토큰 저장소
+// jwt.token-store 설정값으로 구현체 선택 (redis: 기본값, memory: 단일 노드 / 테스트용)
+// 원본 토큰 대신 TokenFingerprint 로 만든 고정 길이 식별자만 저장
+public interface TokenStore {
+    // 이전 토큰 정리 후 새 토큰 등록
+    void register(String username, String accessTokenId, String refreshTokenId,
+                  Duration accessTokenTtl, Duration refreshTokenTtl);
+
+    // 저장된 refresh token 과 일치할 때만 두 토큰을 새 토큰으로 교체, 교체되면 true
+    boolean rotate(String username, String refreshTokenId, String newAccessTokenId, String newRefreshTokenId,
+                   Duration accessTokenTtl, Duration refreshTokenTtl);
+
+    // 삭제된 토큰이 있으면 true
+    boolean revoke(String username);
+
+    boolean exists(String username);
+
+    // 저장된 access token 과 같으면 true (재발급 / 다시 로그인으로 교체된 이전 access token 은 false)
+    boolean matchesAccessToken(String username, String accessTokenId);
+}
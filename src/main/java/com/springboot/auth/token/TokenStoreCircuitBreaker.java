@@ -0,0 +1,154 @@
+package com.springboot.auth.token;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// 토큰 저장소 호출용 circuit breaker
+// 연속 실패가 failure-threshold 에 도달하면 open-millis 동안 저장소를 호출하지 않고 바로 fallback
+// 이후 한 번만 시험 호출(half-open)해서 성공하면 닫고, 실패하면 다시 open
+@Slf4j
+@Component
+public class TokenStoreCircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    // 저장소 장애 중 토큰 확인 방식
+    public enum Fallback {
+        // 인증 실패 처리
+        FAIL_CLOSED,
+        // 서명만 검증된 토큰을 장애 시작 후 trust-signature-seconds 동안만 허용
+        TRUST_SIGNATURE;
+
+        static Fallback from(String value) {
+            return valueOf(value.trim().toUpperCase().replace('-', '_'));
+        }
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final Fallback fallback;
+    private final long trustSignatureMillis;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+    // 이번 장애의 첫 실패 시각 (0 이면 정상)
+    private volatile long failingSince;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> latencyTimers = new ConcurrentHashMap<>();
+    private final Counter notPermitted;
+    private final Counter trustedFallback;
+    private final Counter rejectedFallback;
+
+    public TokenStoreCircuitBreaker(MeterRegistry meterRegistry,
+                                    @Value("${jwt.token-store-breaker.failure-threshold:5}") int failureThreshold,
+                                    @Value("${jwt.token-store-breaker.open-millis:5000}") long openMillis,
+                                    @Value("${jwt.token-store-breaker.fallback:fail-closed}") String fallback,
+                                    @Value("${jwt.token-store-breaker.trust-signature-seconds:30}") long trustSignatureSeconds) {
+        this.meterRegistry = meterRegistry;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.fallback = Fallback.from(fallback);
+        this.trustSignatureMillis = TimeUnit.SECONDS.toMillis(trustSignatureSeconds);
+
+        Gauge.builder("token.store.circuit.state", state, ref -> ref.get().ordinal())
+                .description("0: closed, 1: open, 2: half-open")
+                .register(meterRegistry);
+        this.notPermitted = Counter.builder("token.store.calls.not.permitted").register(meterRegistry);
+        this.trustedFallback = Counter.builder("token.store.fallback").tag("result", "trusted").register(meterRegistry);
+        this.rejectedFallback = Counter.builder("token.store.fallback").tag("result", "rejected").register(meterRegistry);
+    }
+
+    // 저장소 호출, 실패하거나 circuit 이 열려 있으면 fallback 결과 반환
+    public <T> T execute(String operation, Supplier<T> call, Supplier<T> fallback) {
+        if (!tryAcquirePermission()) {
+            notPermitted.increment();
+            return fallback.get();
+        }
+        Timer timer = latencyTimers.computeIfAbsent(operation, key -> Timer.builder("token.store.latency")
+                .tag("operation", key)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry));
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            onSuccess();
+            return result;
+        } catch (DataAccessException e) {
+            onFailure(operation, e);
+            return fallback.get();
+        } catch (RuntimeException e) {
+            // 저장소 장애가 아닌 예외는 그대로 던지되, 시험 호출 중이었으면 다시 open (half-open 에 남으면 이후 호출이 모두 막힘)
+            abortTrial();
+            throw e;
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 토큰 확인 실패 시 fallback 설정에 따라 서명만으로 허용할지 결정
+    public boolean trustSignatureOnly() {
+        long since = failingSince;
+        boolean trusted = fallback == Fallback.TRUST_SIGNATURE
+                && since != 0
+                && System.currentTimeMillis() - since < trustSignatureMillis;
+        (trusted ? trustedFallback : rejectedFallback).increment();
+        return trusted;
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    private boolean tryAcquirePermission() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        // open 시간이 지나면 한 스레드만 시험 호출
+        return current == State.OPEN
+                && System.currentTimeMillis() - openedAt >= openMillis
+                && state.compareAndSet(State.OPEN, State.HALF_OPEN);
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        failingSince = 0;
+        if (state.getAndSet(State.CLOSED) != State.CLOSED) {
+            log.info("# token store circuit closed");
+        }
+    }
+
+    private void abortTrial() {
+        if (state.get() == State.HALF_OPEN) {
+            openedAt = System.currentTimeMillis();
+            state.compareAndSet(State.HALF_OPEN, State.OPEN);
+        }
+    }
+
+    private void onFailure(String operation, DataAccessException e) {
+        if (failingSince == 0) {
+            failingSince = System.currentTimeMillis();
+        }
+        int failures = consecutiveFailures.incrementAndGet();
+        if (state.get() == State.HALF_OPEN || failures >= failureThreshold) {
+            openedAt = System.currentTimeMillis();
+            if (state.getAndSet(State.OPEN) != State.OPEN) {
+                log.warn("# token store circuit opened after {} failures (last operation : {})", failures, operation, e);
+            }
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.springboot.auth.utils;
 
+import com.springboot.member.entity.Member;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -13,26 +15,36 @@ public class AuthorityUtils {
     @Value("${mail.address.admin}")
     private String adminMailAddress;
 
-    private final List<GrantedAuthority> ADMIN_ROLES = org.springframework.security.core.authority.AuthorityUtils.createAuthorityList("ROLE_ADMIN", "ROLE_USER");
+    // DB에는 역할 bit 합으로 저장
+    private static final int ADMIN_ROLES = Member.Role.ADMIN.getBit() | Member.Role.USER.getBit();
+    private static final int USER_ROLES = Member.Role.USER.getBit();
 
-    private final List<GrantedAuthority> USER_ROLES = org.springframework.security.core.authority.AuthorityUtils.createAuthorityList("ROLE_USER");
+    // 역할 조합(bit 합)마다 한 번만 만든 불변 권한 목록, 요청마다 새로 만들지 않고 공유
+    private static final List<List<GrantedAuthority>> AUTHORITIES = new ArrayList<>();
 
-    // DB에 저장하기 때문에 ROLE_ 빠짐
-    private final List<String> ADMIN_ROLES_STRING = List.of("ADMIN", "USER");
-    private final List<String> USER_ROLES_STRING = List.of("USER");
+    static {
+        int combinations = 1 << Member.Role.values().length;
+        for (int mask = 0; mask < combinations; mask++) {
+            AUTHORITIES.add(Member.Role.names(mask).stream()
+                    .map(role -> (GrantedAuthority) new SimpleGrantedAuthority("ROLE_" + role))
+                    .collect(Collectors.toUnmodifiableList()));
+        }
+    }
 
-    public List<String> createRoles(String email){
+    public int createRoleMask(String email){
         if(email.equals(adminMailAddress)){
-            return ADMIN_ROLES_STRING;
+            return ADMIN_ROLES;
         } else {
-            return USER_ROLES_STRING;
+            return USER_ROLES;
         }
     }
 
+    public List<GrantedAuthority> createAuthorities(int roleMask){
+        return AUTHORITIES.get(roleMask);
+    }
+
+    // 토큰 claims 의 역할 이름 목록 (ROLE_ 빠짐)
     public List<GrantedAuthority> createAuthorities(List<String> roles){
-        // List를 순회하며 String 을 GrantedAuthority로 바꿔서 List로 패키징 후 반환
-        return roles.stream()
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                .collect(Collectors.toList());
+        return createAuthorities(Member.Role.mask(roles));
     }
 }
@@ -1,6 +1,8 @@
 package com.springboot.config;
 
 import com.springboot.auth.MemberDetailsService;
+import com.springboot.auth.cache.TokenNearCache;
+import com.springboot.auth.crypto.BoundedPasswordEncoder;
 import com.springboot.auth.filter.JwtAuthenticationFilter;
 import com.springboot.auth.filter.JwtVerificationFilter;
 import com.springboot.auth.handler.MemberAccessDeniedHandler;
@@ -9,9 +11,10 @@ import com.springboot.auth.handler.MemberAuthenticationFailureHandler;
 import com.springboot.auth.handler.MemberAuthenticationSuccessHandler;
 import com.springboot.auth.jwt.JwtTokenizer;
 import com.springboot.auth.utils.AuthorityUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.Customizer;
@@ -35,13 +38,19 @@ public class SecurityConfiguration {
     private final JwtTokenizer jwtTokenizer;
     private final AuthorityUtils authorityUtils;
     private final MemberDetailsService memberDetailsService;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final TokenNearCache tokenNearCache;
 
-    public SecurityConfiguration(JwtTokenizer jwtTokenizer, AuthorityUtils authorityUtils, MemberDetailsService memberDetailsService, RedisTemplate<String, Object> redisTemplate) {
+    @Value("${jwt.stateless-principal:true}")
+    private boolean statelessPrincipal;
+
+    @Value("${jwt.member-status-check:false}")
+    private boolean memberStatusCheck;
+
+    public SecurityConfiguration(JwtTokenizer jwtTokenizer, AuthorityUtils authorityUtils, MemberDetailsService memberDetailsService, TokenNearCache tokenNearCache) {
         this.jwtTokenizer = jwtTokenizer;
         this.authorityUtils = authorityUtils;
         this.memberDetailsService = memberDetailsService;
-        this.redisTemplate = redisTemplate;
+        this.tokenNearCache = tokenNearCache;
     }
 
     @Bean
@@ -62,6 +71,8 @@ public class SecurityConfiguration {
                 .apply(new CustomFilterConfigurer())
                 .and()
                 .authorizeHttpRequests(authorize -> authorize
+                        // Auth
+                        .antMatchers("/qna/auth/signing-keys/**", "/auth/signing-keys/**").hasRole("ADMIN")
                         // Member
                         .antMatchers(HttpMethod.GET, "/qna/members/**").hasAnyRole("USER", "ADMIN")
                         .antMatchers(HttpMethod.GET, "/qna/members").hasRole("ADMIN")
@@ -69,6 +80,7 @@ public class SecurityConfiguration {
                         .antMatchers(HttpMethod.DELETE, "/qna/members/**").hasAnyRole("USER", "ADMIN")
                         .antMatchers(HttpMethod.POST, "/qna/members").permitAll()
                         // Question
+                        .antMatchers(HttpMethod.POST, "/qna/questions/like-counts/reconcile").hasRole("ADMIN")
                         .antMatchers(HttpMethod.POST, "/qna/questions").hasRole("USER")
                         .antMatchers(HttpMethod.PATCH, "/qna/questions/**").authenticated()
                         .antMatchers(HttpMethod.GET, "/qna/questions/**").authenticated()
@@ -83,9 +95,14 @@ public class SecurityConfiguration {
         return http.build();
     }
 
+    // BCrypt 계산은 전용 스레드 풀에서만 실행 (로그인 폭주 시 요청 스레드 / CPU 보호)
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${security.password-hashing.threads:2}") int threads,
+                                           @Value("${security.password-hashing.queue-capacity:32}") int queueCapacity,
+                                           @Value("${security.password-hashing.wait-timeout-millis:2000}") long waitTimeoutMillis){
+        return new BoundedPasswordEncoder(PasswordEncoderFactories.createDelegatingPasswordEncoder(),
+                threads, queueCapacity, waitTimeoutMillis, meterRegistry);
     }
 
     // CorsConfigurationSource Bean 생성을 통해 구체적인 CORS 정책 설정
@@ -96,8 +113,8 @@ public class SecurityConfiguration {
         configuration.setAllowedOrigins(Arrays.asList("http://localhost:3000"));
         // setAllowedMethods : 지정한 HTTP Method 에 대한 통신 허용
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PATCH", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(Arrays.asList("Content-Type", "Authorization"));
-        configuration.setExposedHeaders(Arrays.asList("authorization", "Authorization"));
+        configuration.setAllowedHeaders(Arrays.asList("Content-Type", "Authorization", "Refresh"));
+        configuration.setExposedHeaders(Arrays.asList("authorization", "Authorization", "Refresh"));
 //        configuration.setAllowCredentials(true);
         // UrlBasedCorsConfigurationSource : CorsConfigurationSource의 구현체
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -130,7 +147,8 @@ public class SecurityConfiguration {
             jwtAuthenticationFilter.setAuthenticationFailureHandler(new MemberAuthenticationFailureHandler());
 
             //  JwtVerificationFilter의 인스턴스를 생성 + JwtVerificationFilter에서 사용되는 객체들을 생성자로 DI
-            JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(jwtTokenizer, authorityUtils, memberDetailsService, redisTemplate);
+            JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(jwtTokenizer, authorityUtils, memberDetailsService, tokenNearCache,
+                    statelessPrincipal, memberStatusCheck);
 
             // addFilter() 메서드를 통해 JwtAuthenticationFilter를 Spring Security Filter Chain에 추가
             builder.addFilter(jwtAuthenticationFilter)
@@ -0,0 +1,26 @@
+package com.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 커서 기반 목록 응답, 다음 페이지는 nextCursor 로 요청 (마지막 페이지면 null)
+@Getter
+public class CursorResponseDto<T> {
+    private List<T> data;
+    private CursorInfo cursorInfo;
+
+    public CursorResponseDto(List<T> data, int size, String nextCursor) {
+        this.data = data;
+        this.cursorInfo = new CursorInfo(size, nextCursor != null, nextCursor);
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class CursorInfo {
+        private int size;
+        private boolean hasNext;
+        private String nextCursor;
+    }
+}
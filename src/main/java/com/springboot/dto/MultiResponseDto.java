@@ -2,6 +2,7 @@ package com.springboot.dto;
 
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -14,6 +15,14 @@ public class MultiResponseDto<T> {
     public MultiResponseDto(List<T> data, Page page) {
         this.data = data;
         this.pageInfo = new PageInfo(page.getNumber() + 1,
-                page.getSize(), page.getTotalElements(), page.getTotalPages());
+                page.getSize(), page.getTotalElements(), page.getTotalPages(), page.hasNext());
+    }
+
+    // Slice 조회용, 전체 개수는 count 쿼리 대신 따로 관리하는 값 사용
+    public MultiResponseDto(List<T> data, Slice slice, long totalElements) {
+        this.data = data;
+        int totalPages = (int) ((totalElements + slice.getSize() - 1) / slice.getSize());
+        this.pageInfo = new PageInfo(slice.getNumber() + 1,
+                slice.getSize(), totalElements, totalPages, slice.hasNext());
     }
 }
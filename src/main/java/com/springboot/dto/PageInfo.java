@@ -10,4 +10,5 @@ public class PageInfo {
     private int size;
     private long totalElements;
     private int totalPages;
+    private boolean hasNext;
 }
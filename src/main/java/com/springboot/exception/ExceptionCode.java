@@ -15,7 +15,16 @@ public enum ExceptionCode {
     ANSWER_NOT_FOUND(404, "Answer not found"),
     ANSWER_EXISTS(409, "Answer exists"),
     CANNOT_CHANGE_QUESTION(403, "Question already answered"),
-    QUESTION_NOT_FOUND(404, "Question not found");
+    QUESTION_NOT_FOUND(404, "Question not found"),
+    TOKEN_STORE_UNAVAILABLE(503, "Token store unavailable"),
+    LIKE_STORE_UNAVAILABLE(503, "Like store unavailable"),
+    LIKE_RECONCILE_RUNNING(409, "Like count reconcile already running"),
+    PASSWORD_HASHING_BUSY(503, "Too many login requests, try again later"),
+    INVALID_REFRESH_TOKEN(401, "Invalid refresh token"),
+    INVALID_CURSOR(400, "Invalid cursor"),
+    INVALID_LIST_OPTION(400, "Invalid list option"),
+    SIGNING_KEY_NOT_FOUND(404, "Signing key not found"),
+    SIGNING_KEY_ACTIVE(409, "Active signing key can not be retired");
 
     @Getter
     private int status;
@@ -0,0 +1,72 @@
+package com.springboot.like.engine;
+
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import com.springboot.like.entity.Like;
+import com.springboot.like.repository.LikeRepository;
+import com.springboot.member.service.MemberService;
+import com.springboot.question.cache.QuestionPageCache;
+import com.springboot.question.entity.Question;
+import com.springboot.question.service.QuestionService;
+import com.springboot.question.service.QuestionSortType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+// 토글마다 DB 에 바로 반영
+// 좋아요 행은 (question_id, member_id) unique 키로, 좋아요 수는 상대값 UPDATE 로 처리
+// 엔티티의 likeCount 를 읽고 쓰지 않으므로 동시 토글에도 좋아요 수와 좋아요 행 수가 어긋나지 않음
+@Component
+@ConditionalOnProperty(name = "like.engine", havingValue = "jpa", matchIfMissing = true)
+public class JpaLikeEngine implements LikeEngine {
+    private final LikeRepository likeRepository;
+    private final QuestionService questionService;
+    private final MemberService memberService;
+    private final QuestionPageCache questionPageCache;
+
+    public JpaLikeEngine(LikeRepository likeRepository, QuestionService questionService, MemberService memberService,
+                         QuestionPageCache questionPageCache) {
+        this.likeRepository = likeRepository;
+        this.questionService = questionService;
+        this.memberService = memberService;
+        this.questionPageCache = questionPageCache;
+    }
+
+    @Override
+    @Transactional
+    public int toggle(long questionId, long memberId) {
+        Question currentQuestion = questionService.findVerifiedQuestion(questionId);
+        int delta;
+        // 이미 눌렀으면 삭제로 끝 (동시에 같은 회원이 취소하면 한쪽만 1건 삭제, 다른 쪽은 좋아요로 처리)
+        if(likeRepository.deleteByQuestionIdAndMemberId(questionId, memberId) > 0){
+            delta = -1;
+        } else {
+            Like like = new Like();
+            like.setMember(memberService.findVerifiedMember(memberId));
+            like.setQuestion(currentQuestion);
+            try {
+                likeRepository.saveAndFlush(like);
+            } catch (DataIntegrityViolationException e) {
+                // 같은 회원의 동시 요청은 (question_id, member_id) unique 제약에서 한 번만 성공
+                throw new BusinessLogicException(ExceptionCode.ALREADY_LIKED);
+            }
+            delta = 1;
+        }
+        questionService.addLikeCount(questionId, delta);
+        // 좋아요 순 정렬은 순서가 바뀌고, 다른 정렬은 이 질문의 좋아요 수만 바뀜
+        questionPageCache.evictSorts(QuestionSortType.MOSTLIKES, QuestionSortType.LEASTLIKES);
+        questionPageCache.evictQuestion(questionId);
+        return delta;
+    }
+
+    // IN 쿼리 한 번
+    @Override
+    public Set<Long> findLikedQuestionIds(long memberId, Collection<Long> questionIds) {
+        return new HashSet<>(likeRepository.findLikedQuestionIds(memberId, questionIds));
+    }
+}
@@ -0,0 +1,13 @@
+package com.springboot.like.engine;
+
+import java.util.Collection;
+import java.util.Set;
+
+// 좋아요 토글 처리 방식 (like.engine = jpa | redis)
+// toggle 반환 : 1 좋아요, -1 취소
+public interface LikeEngine {
+    int toggle(long questionId, long memberId);
+
+    // 질문 id 중 회원이 좋아요 누른 질문 id, 질문 수와 상관없이 일정한 횟수로 조회
+    Set<Long> findLikedQuestionIds(long memberId, Collection<Long> questionIds);
+}
@@ -0,0 +1,25 @@
+package com.springboot.like.engine;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+// Redis 엔진이 기록한 좋아요 변경 (delta 1 좋아요, -1 취소)
+@Getter
+@AllArgsConstructor
+public class LikeEvent {
+    private long questionId;
+    private long memberId;
+    private int delta;
+
+    static LikeEvent from(Map<Object, Object> fields) {
+        return new LikeEvent(Long.parseLong((String) fields.get("questionId")),
+                Long.parseLong((String) fields.get("memberId")),
+                Integer.parseInt((String) fields.get("delta")));
+    }
+
+    public boolean isLiked() {
+        return delta > 0;
+    }
+}
@@ -0,0 +1,123 @@
+package com.springboot.like.engine;
+
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import com.springboot.like.repository.LikeRepository;
+import com.springboot.question.service.QuestionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// Redis 에 질문별 좋아요 회원 set + 좋아요 수를 두고 토글은 Lua 스크립트 한 번으로 처리
+// 변경은 like-events stream 에 같이 기록하고 RedisLikeEventWriter 가 모아서 DB 에 반영
+// (목록의 좋아요 수는 DB 값이므로 반영 주기만큼 늦음)
+// likes:{questionId} -> 좋아요 회원 id set, like-count:{questionId} -> 좋아요 수
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "like.engine", havingValue = "redis")
+public class RedisLikeEngine implements LikeEngine {
+    private static final RedisScript<Long> TOGGLE_SCRIPT = loadScript("scripts/toggle-like.lua");
+    private static final RedisScript<Long> LOAD_SCRIPT = loadScript("scripts/load-likes.lua");
+
+    static final String LIKERS_KEY_PREFIX = "likes:";
+    static final String COUNT_KEY_PREFIX = "like-count:";
+    static final String EVENT_STREAM_KEY = "like-events";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final LikeRepository likeRepository;
+    private final QuestionService questionService;
+
+    public RedisLikeEngine(RedisTemplate<String, Object> redisTemplate, LikeRepository likeRepository,
+                           QuestionService questionService) {
+        this.redisTemplate = redisTemplate;
+        this.likeRepository = likeRepository;
+        this.questionService = questionService;
+    }
+
+    @Override
+    public int toggle(long questionId, long memberId) {
+        Long delta = execute(() -> toggleInRedis(questionId, memberId));
+        if (delta == null) {
+            // 처음 토글되는 질문만 DB 조회 (질문 확인 + 기존 좋아요 회원), 이후에는 Redis 왕복 한 번
+            questionService.findVerifiedQuestion(questionId);
+            Object[] memberIds = likeRepository.findMemberIdsByQuestionId(questionId).stream()
+                    .map(String::valueOf)
+                    .toArray();
+            execute(() -> redisTemplate.execute(LOAD_SCRIPT, keys(questionId).subList(0, 2), memberIds));
+            delta = execute(() -> toggleInRedis(questionId, memberId));
+        }
+        return delta.intValue();
+    }
+
+    // 질문마다 적재 여부 (EXISTS like-count) + 회원 포함 여부 (SISMEMBER) 를 pipeline 한 번으로 확인
+    // 아직 적재되지 않은 질문만 DB 에서 IN 쿼리 한 번 (Redis 왕복 1번 + DB 조회 최대 1번)
+    @Override
+    public Set<Long> findLikedQuestionIds(long memberId, Collection<Long> questionIds) {
+        List<Long> orderedIds = new ArrayList<>(questionIds);
+        byte[] member = String.valueOf(memberId).getBytes(StandardCharsets.UTF_8);
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                orderedIds.forEach(questionId -> {
+                    connection.keyCommands().exists((COUNT_KEY_PREFIX + questionId).getBytes(StandardCharsets.UTF_8));
+                    connection.setCommands().sIsMember((LIKERS_KEY_PREFIX + questionId).getBytes(StandardCharsets.UTF_8), member);
+                });
+                return null;
+            });
+        } catch (DataAccessException e) {
+            // Redis 장애 중에도 목록 / 상세 조회는 DB 값으로 응답 (반영 주기만큼 늦을 수 있음)
+            log.warn("# liked questions from redis failed, fall back to db : {}", e.getMessage());
+            return new HashSet<>(likeRepository.findLikedQuestionIds(memberId, orderedIds));
+        }
+        Set<Long> liked = new HashSet<>();
+        List<Long> notLoaded = new ArrayList<>();
+        for (int index = 0; index < orderedIds.size(); index++) {
+            if (!Boolean.TRUE.equals(results.get(index * 2))) {
+                notLoaded.add(orderedIds.get(index));
+            } else if (Boolean.TRUE.equals(results.get(index * 2 + 1))) {
+                liked.add(orderedIds.get(index));
+            }
+        }
+        if (!notLoaded.isEmpty()) {
+            liked.addAll(likeRepository.findLikedQuestionIds(memberId, notLoaded));
+        }
+        return liked;
+    }
+
+    private Long toggleInRedis(long questionId, long memberId) {
+        return redisTemplate.execute(TOGGLE_SCRIPT, keys(questionId), String.valueOf(questionId), String.valueOf(memberId));
+    }
+
+    private static <T> T execute(Supplier<T> command) {
+        try {
+            return command.get();
+        } catch (DataAccessException e) {
+            throw new BusinessLogicException(ExceptionCode.LIKE_STORE_UNAVAILABLE);
+        }
+    }
+
+    private static List<String> keys(long questionId) {
+        return List.of(LIKERS_KEY_PREFIX + questionId, COUNT_KEY_PREFIX + questionId, EVENT_STREAM_KEY);
+    }
+
+    private static RedisScript<Long> loadScript(String path) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
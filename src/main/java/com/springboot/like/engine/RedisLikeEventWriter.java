@@ -0,0 +1,213 @@
+package com.springboot.like.engine;
+
+import com.springboot.like.service.LikeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// like-events stream 을 batch-size 개씩 읽어 DB 에 반영 (at-least-once)
+// 반영한 트랜잭션이 커밋된 뒤에 XACK + XDEL, 그 전에 실패하면 다음 flush 에서 미확인 이벤트부터 다시 반영
+// 같은 회원의 좋아요 / 취소 순서를 지키기 위해 잠금을 잡은 노드 하나만 반영
+// (모든 노드가 같은 consumer 이름을 쓰므로 잠금을 새로 잡은 노드가 이전 노드의 미확인 이벤트를 이어받음)
+// batch 마다 잠금을 연장하고, 잠금을 잃었으면 (만료 후 다른 노드가 잡음) 바로 중단해서 두 노드가 같이 반영하지 않게 함
+// max-deliveries 번 전달되고도 반영되지 않는 이벤트는 like-events-dead stream 으로 옮기고 다음 이벤트 반영
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "like.engine", havingValue = "redis")
+public class RedisLikeEventWriter {
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = loadScript("scripts/release-lock.lua");
+    private static final RedisScript<Long> EXTEND_LOCK_SCRIPT = loadScript("scripts/extend-lock.lua");
+
+    static final String GROUP = "like-writer";
+    static final String LOCK_KEY = "like-writer-lock";
+    static final String DEAD_LETTER_STREAM_KEY = "like-events-dead";
+    private static final Consumer CONSUMER = Consumer.from(GROUP, "writer");
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final LikeService likeService;
+    private final int batchSize;
+    private final Duration lockTtl;
+    private final int maxDeliveries;
+    // 잠금 소유자 구분용
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile boolean groupCreated;
+
+    public RedisLikeEventWriter(RedisTemplate<String, Object> redisTemplate, LikeService likeService,
+                                @Value("${like.redis.batch-size:500}") int batchSize,
+                                @Value("${like.redis.lock-seconds:30}") long lockSeconds,
+                                @Value("${like.redis.max-deliveries:5}") int maxDeliveries) {
+        this.redisTemplate = redisTemplate;
+        this.likeService = likeService;
+        this.batchSize = batchSize;
+        this.lockTtl = Duration.ofSeconds(lockSeconds);
+        this.maxDeliveries = maxDeliveries;
+    }
+
+    @Scheduled(fixedDelayString = "${like.redis.flush-millis:1000}")
+    public synchronized void flush() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, nodeId, lockTtl))) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("# like event writer lock failed : {}", e.getMessage());
+            return;
+        }
+        try {
+            createGroup();
+            // 이전에 읽고 확인하지 못한 이벤트부터, 그 다음 새 이벤트
+            if (drain(ReadOffset.from("0"))) {
+                drain(ReadOffset.lastConsumed());
+            }
+        } catch (Exception e) {
+            // Redis 데이터가 초기화되었을 수 있으므로 다음 flush 에서 그룹부터 다시 확인
+            groupCreated = false;
+            log.warn("# like event write failed, retry next time : {}", e.getMessage());
+        } finally {
+            try {
+                redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), nodeId);
+            } catch (Exception e) {
+                // 해제하지 못한 잠금은 lock-seconds 후 만료
+                log.warn("# like event writer unlock failed : {}", e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+
+    // 읽을 이벤트가 남지 않을 때까지 반영, 중간에 잠금을 잃으면 false
+    private boolean drain(ReadOffset offset) {
+        while (true) {
+            if (!extendLock()) {
+                log.warn("# like event writer lost lock, stop writing");
+                return false;
+            }
+            if (writeBatch(offset) < batchSize) {
+                return true;
+            }
+        }
+    }
+
+    private boolean extendLock() {
+        Long extended = redisTemplate.execute(EXTEND_LOCK_SCRIPT, List.of(LOCK_KEY), nodeId,
+                String.valueOf(lockTtl.toMillis()));
+        return extended != null && extended == 1;
+    }
+
+    // 스트림 하나만 읽으므로 varargs 배열에 다른 타입이 섞이지 않음
+    @SuppressWarnings("unchecked")
+    private List<MapRecord<String, Object, Object>> read(ReadOffset offset) {
+        return redisTemplate.opsForStream().read(CONSUMER, StreamReadOptions.empty().count(batchSize),
+                StreamOffset.create(RedisLikeEngine.EVENT_STREAM_KEY, offset));
+    }
+
+    // 반영한 이벤트 수
+    private int writeBatch(ReadOffset offset) {
+        List<MapRecord<String, Object, Object>> records = read(offset);
+        if (records == null || records.isEmpty()) {
+            return 0;
+        }
+        try {
+            likeService.applyLikeEvents(records.stream()
+                    .map(record -> LikeEvent.from(record.getValue()))
+                    .collect(Collectors.toList()));
+        } catch (RuntimeException e) {
+            if (isTransient(e)) {
+                throw e;
+            }
+            // 계속 실패하는 이벤트가 섞여 있을 수 있으므로 하나씩 반영 (이미 반영된 이벤트는 바로 확인)
+            writeOneByOne(records);
+            return records.size();
+        }
+        acknowledge(records.stream().map(MapRecord::getId).toArray(RecordId[]::new));
+        return records.size();
+    }
+
+    // 실패한 이벤트가 max-deliveries 번 전달된 이벤트면 dead-letter, 아니면 중단하고 다음 flush 에서 다시 시도
+    // (XREADGROUP 으로 미확인 이벤트를 다시 읽을 때마다 전달 횟수 증가)
+    private void writeOneByOne(List<MapRecord<String, Object, Object>> records) {
+        for (MapRecord<String, Object, Object> record : records) {
+            try {
+                likeService.applyLikeEvents(List.of(LikeEvent.from(record.getValue())));
+            } catch (RuntimeException e) {
+                if (isTransient(e) || deliveryCount(record.getId()) < maxDeliveries) {
+                    throw e;
+                }
+                redisTemplate.opsForStream().add(StreamRecords.newRecord()
+                        .in(DEAD_LETTER_STREAM_KEY)
+                        .ofMap(record.getValue()));
+                log.error("# like event {} moved to {} : {}", record.getId(), DEAD_LETTER_STREAM_KEY, e.getMessage());
+            }
+            acknowledge(record.getId());
+        }
+    }
+
+    private long deliveryCount(RecordId recordId) {
+        PendingMessages pending = redisTemplate.opsForStream().pending(RedisLikeEngine.EVENT_STREAM_KEY, CONSUMER,
+                Range.closed(recordId.getValue(), recordId.getValue()), 1L);
+        return pending.isEmpty() ? 0 : pending.get(0).getTotalDeliveryCount();
+    }
+
+    private void acknowledge(RecordId... recordIds) {
+        redisTemplate.opsForStream().acknowledge(RedisLikeEngine.EVENT_STREAM_KEY, GROUP, recordIds);
+        redisTemplate.opsForStream().delete(RedisLikeEngine.EVENT_STREAM_KEY, recordIds);
+    }
+
+    // DB 연결 / 시간 초과 같은 일시적 실패는 전달 횟수와 상관없이 다시 시도 (dead-letter X)
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException || e instanceof CannotCreateTransactionException;
+    }
+
+    // stream 이 없으면 같이 생성 (MKSTREAM), 이미 있는 그룹은 무시
+    private void createGroup() {
+        if (groupCreated) {
+            return;
+        }
+        try {
+            redisTemplate.opsForStream().createGroup(RedisLikeEngine.EVENT_STREAM_KEY, ReadOffset.from("0"), GROUP);
+        } catch (RedisSystemException e) {
+            String message = e.getMostSpecificCause().getMessage();
+            if (message == null || !message.contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+        groupCreated = true;
+    }
+
+    private static RedisScript<Long> loadScript(String path) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
@@ -16,7 +16,9 @@ import javax.validation.constraints.NotBlank;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "likes")
+// 회원당 질문 하나에 좋아요 하나, 좋아요 조회 (question_id, member_id) 도 이 인덱스 사용
+@Table(name = "likes", uniqueConstraints = @UniqueConstraint(name = "uk_likes_question_member",
+        columnNames = {"question_id", "member_id"}))
 public class Like extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -2,7 +2,12 @@ package com.springboot.like.repository;
 
 import com.springboot.like.entity.Like;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface LikeRepository extends JpaRepository<Like, Long> {
@@ -12,4 +17,35 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     Optional<Like> findByQuestion_QuestionIdAndMember_MemberId(long questionId, long memberId);
     // 질문에 대한 좋아요 수 계산
     int countByQuestion_QuestionId(long questionId);
+    // 좋아요 취소, 지운 행 수로 취소 여부 판단 (같은 회원의 동시 취소는 하나만 1)
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.question.questionId = :questionId AND l.member.memberId = :memberId")
+    int deleteByQuestionIdAndMemberId(@Param("questionId") long questionId, @Param("memberId") long memberId);
+    // 좋아요 이벤트 반영, 이미 있거나 질문 / 회원이 없으면 0 (같은 이벤트를 다시 반영해도 결과 같음)
+    @Modifying
+    @Query(value = "INSERT INTO likes (question_id, member_id, created_at, last_modified_at) "
+            + "SELECT q.question_id, m.member_id, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM question q, member m "
+            + "WHERE q.question_id = :questionId AND m.member_id = :memberId "
+            + "AND NOT EXISTS (SELECT 1 FROM likes l WHERE l.question_id = :questionId AND l.member_id = :memberId)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("questionId") long questionId, @Param("memberId") long memberId);
+    // 질문에 좋아요 누른 회원 id (Redis 엔진 초기 적재)
+    @Query("SELECT l.member.memberId FROM Like l WHERE l.question.questionId = :questionId")
+    List<Long> findMemberIdsByQuestionId(@Param("questionId") long questionId);
+    // 목록의 질문 중 회원이 좋아요 누른 질문 id, (question_id, member_id) unique 인덱스 사용
+    @Query("SELECT l.question.questionId FROM Like l "
+            + "WHERE l.member.memberId = :memberId AND l.question.questionId IN :questionIds")
+    List<Long> findLikedQuestionIds(@Param("memberId") long memberId, @Param("questionIds") Collection<Long> questionIds);
+    // questionId 범위의 좋아요 수를 한 번의 GROUP BY 로 계산해서 저장된 값과 다른 질문만 반환 (좋아요 수 보정)
+    @Query("SELECT q.questionId AS questionId, q.likeCount AS likeCount, COUNT(l) AS actualCount "
+            + "FROM Question q LEFT JOIN Like l ON l.question = q "
+            + "WHERE q.questionId >= :fromId AND q.questionId < :toId "
+            + "GROUP BY q.questionId, q.likeCount HAVING q.likeCount <> COUNT(l)")
+    List<LikeCountDrift> findLikeCountDrifts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    interface LikeCountDrift {
+        long getQuestionId();
+        int getLikeCount();
+        long getActualCount();
+    }
 }
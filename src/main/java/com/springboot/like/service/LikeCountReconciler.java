@@ -0,0 +1,214 @@
+package com.springboot.like.service;
+
+import com.springboot.like.repository.LikeRepository;
+import com.springboot.question.cache.QuestionPageCache;
+import com.springboot.question.repository.QuestionRepository;
+import com.springboot.question.service.QuestionSortType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// 질문의 likeCount 를 좋아요 행 수로 보정
+// questionId 를 chunk-size 범위로 나눠 전용 ForkJoinPool 에서 병렬로 처리
+// 범위마다 GROUP BY 한 번으로 다른 질문만 찾고, 보정은 JDBC batch UPDATE 한 번
+// 보정 UPDATE 는 조회한 likeCount 가 그대로일 때만 적용 (그 사이 토글된 질문은 다음 보정에서 처리)
+// chunks-per-second 로 모든 스레드의 범위 처리 속도를 제한 (업무 시간에도 DB 부하를 일정하게)
+@Slf4j
+@Component
+public class LikeCountReconciler implements DisposableBean {
+    private static final String CORRECT_LIKE_COUNT_SQL =
+            "UPDATE question SET like_count = ? WHERE question_id = ? AND like_count = ?";
+
+    private final LikeRepository likeRepository;
+    private final QuestionRepository questionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final QuestionPageCache questionPageCache;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final long chunkIntervalNanos;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    // 다음 범위를 시작할 수 있는 시각 (nanoTime)
+    private final AtomicLong nextChunkAt = new AtomicLong(System.nanoTime());
+    private final AtomicLong totalChunks = new AtomicLong();
+    private final AtomicLong doneChunks = new AtomicLong();
+
+    private final Counter chunks;
+    private final Counter corrections;
+    private final Timer duration;
+
+    public LikeCountReconciler(LikeRepository likeRepository, QuestionRepository questionRepository,
+                               JdbcTemplate jdbcTemplate, QuestionPageCache questionPageCache, MeterRegistry meterRegistry,
+                               @Value("${like.reconcile.chunk-size:1000}") int chunkSize,
+                               @Value("${like.reconcile.parallelism:2}") int parallelism,
+                               @Value("${like.reconcile.chunks-per-second:10}") int chunksPerSecond) {
+        this.likeRepository = likeRepository;
+        this.questionRepository = questionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.questionPageCache = questionPageCache;
+        this.chunkSize = chunkSize;
+        this.chunkIntervalNanos = chunksPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / chunksPerSecond : 0;
+        this.pool = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("like-reconcile-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+
+        Gauge.builder("like.reconcile.running", running, flag -> flag.get() ? 1 : 0).register(meterRegistry);
+        Gauge.builder("like.reconcile.progress", this, LikeCountReconciler::progress).register(meterRegistry);
+        this.chunks = Counter.builder("like.reconcile.chunks").register(meterRegistry);
+        this.corrections = Counter.builder("like.reconcile.corrections").register(meterRegistry);
+        this.duration = Timer.builder("like.reconcile.duration").register(meterRegistry);
+    }
+
+    // 정해진 시각에 시작만 하고 바로 반환 (스케줄러 스레드를 잡지 않음), 이미 실행 중이면 건너뜀
+    @Scheduled(cron = "${like.reconcile.cron:0 0 4 * * *}")
+    public void scheduledReconcile() {
+        if (!start()) {
+            log.info("# like count reconcile already running");
+        }
+    }
+
+    // 백그라운드로 시작, 이미 실행 중이면 false
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        pool.execute(() -> {
+            try {
+                run();
+            } catch (RuntimeException e) {
+                log.warn("# like count reconcile failed", e);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    // 끝날 때까지 기다리고 보정한 질문 수 반환, 이미 실행 중이면 -1
+    public long reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            return -1;
+        }
+        try {
+            return pool.submit(this::run).join();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    // 0 ~ 1, 실행 중이 아니면 마지막 실행의 값
+    public double progress() {
+        long total = totalChunks.get();
+        return total == 0 ? 1 : (double) doneChunks.get() / total;
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    private long run() {
+        long startedAt = System.nanoTime();
+        long maxQuestionId = questionRepository.findMaxQuestionId();
+        totalChunks.set((maxQuestionId + chunkSize - 1) / chunkSize);
+        doneChunks.set(0);
+        if (maxQuestionId == 0) {
+            return 0;
+        }
+        long corrected = new RangeTask(1, maxQuestionId + 1).invoke();
+        if (corrected > 0) {
+            // 좋아요 순 정렬은 순서가 바뀔 수 있음
+            questionPageCache.evictSorts(QuestionSortType.MOSTLIKES, QuestionSortType.LEASTLIKES);
+        }
+        duration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        log.info("# like count reconciled : {} questions corrected in {} chunks", corrected, totalChunks.get());
+        return corrected;
+    }
+
+    // [fromId, toId) 범위 하나, 보정한 질문 수 반환
+    private long reconcileChunk(long fromId, long toId) {
+        throttle();
+        List<LikeRepository.LikeCountDrift> drifts = likeRepository.findLikeCountDrifts(fromId, toId);
+        long corrected = 0;
+        if (!drifts.isEmpty()) {
+            int[][] updated = jdbcTemplate.batchUpdate(CORRECT_LIKE_COUNT_SQL, drifts, drifts.size(),
+                    (statement, drift) -> {
+                        statement.setLong(1, drift.getActualCount());
+                        statement.setLong(2, drift.getQuestionId());
+                        statement.setInt(3, drift.getLikeCount());
+                    });
+            for (int index = 0; index < drifts.size(); index++) {
+                if (updated[0][index] != 0) {
+                    corrected++;
+                    questionPageCache.evictQuestion(drifts.get(index).getQuestionId());
+                }
+            }
+        }
+        chunks.increment();
+        corrections.increment(corrected);
+        doneChunks.incrementAndGet();
+        return corrected;
+    }
+
+    // 모든 스레드가 하나의 시각표를 나눠 씀, 자기 차례가 올 때까지 대기
+    private void throttle() {
+        if (chunkIntervalNanos == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long slot = nextChunkAt.getAndAccumulate(now, (next, current) -> Math.max(next, current) + chunkIntervalNanos);
+        long wait = slot - now;
+        if (wait > 0) {
+            LockSupport.parkNanos(wait);
+        }
+    }
+
+    // chunk-size 보다 크면 chunk 경계에서 반으로 나눠 fork
+    private final class RangeTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final long fromId;
+        private final long toId;
+
+        private RangeTask(long fromId, long toId) {
+            this.fromId = fromId;
+            this.toId = toId;
+        }
+
+        @Override
+        protected Long compute() {
+            long chunkCount = (toId - fromId + chunkSize - 1) / chunkSize;
+            if (chunkCount <= 1) {
+                return reconcileChunk(fromId, toId);
+            }
+            long middle = fromId + chunkCount / 2 * chunkSize;
+            RangeTask left = new RangeTask(fromId, middle);
+            left.fork();
+            long right = new RangeTask(middle, toId).compute();
+            return left.join() + right;
+        }
+    }
+}
@@ -1,44 +1,76 @@
 package com.springboot.like.service;
 
-import com.springboot.exception.BusinessLogicException;
-import com.springboot.exception.ExceptionCode;
-import com.springboot.like.entity.Like;
+import com.springboot.like.engine.LikeEngine;
+import com.springboot.like.engine.LikeEvent;
 import com.springboot.like.repository.LikeRepository;
-import com.springboot.member.entity.Member;
-import com.springboot.member.service.MemberService;
-import com.springboot.question.entity.Question;
+import com.springboot.question.cache.QuestionPageCache;
+import com.springboot.question.ranking.HotQuestionRanking;
 import com.springboot.question.service.QuestionService;
+import com.springboot.question.service.QuestionSortType;
 import com.springboot.utils.AuthorizationUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 @Service
 public class LikeService {
+    private final LikeEngine likeEngine;
     private final LikeRepository likeRepository;
     private final QuestionService questionService;
-    private final MemberService memberService;
+    private final QuestionPageCache questionPageCache;
+    private final HotQuestionRanking hotQuestionRanking;
 
-    public LikeService(LikeRepository likeRepository, QuestionService questionService, MemberService memberService) {
+    public LikeService(LikeEngine likeEngine, LikeRepository likeRepository, QuestionService questionService,
+                       QuestionPageCache questionPageCache, HotQuestionRanking hotQuestionRanking) {
+        this.likeEngine = likeEngine;
         this.likeRepository = likeRepository;
         this.questionService = questionService;
-        this.memberService = memberService;
+        this.questionPageCache = questionPageCache;
+        this.hotQuestionRanking = hotQuestionRanking;
     }
 
-    @Transactional
+    // like.engine 에 따라 DB 에 바로 반영 (jpa) 하거나 Redis 에서 처리 후 비동기 반영 (redis)
+    // redis 엔진은 DB 연결을 잡지 않도록 여기서는 트랜잭션 없음
+    // HOT 점수는 토글 시점에 반영 (redis 엔진의 DB 반영 때는 다시 반영 X)
     public void toggleLike(long questionId, long authenticatedId){
-        Optional<Like> optionalLike = likeRepository.findByQuestion_QuestionIdAndMember_MemberId(questionId, authenticatedId);
-        Question currentQuestion = questionService.findVerifiedQuestion(questionId);
-        if(optionalLike.isPresent()){
-            likeRepository.delete(optionalLike.get());
-            currentQuestion.minusLikeCount();
-        } else {
-            Like like = new Like();
-            like.setMember(memberService.findVerifiedMember(authenticatedId));
-            like.setQuestion(currentQuestion);
-            likeRepository.save(like);
-            currentQuestion.addLikeCount();
+        hotQuestionRanking.recordLike(questionId, likeEngine.toggle(questionId, authenticatedId));
+    }
+
+    // 목록 / 상세의 likedByMe, 질문이 없으면 조회 X
+    public Set<Long> findLikedQuestionIds(long memberId, Collection<Long> questionIds){
+        if(questionIds.isEmpty()){
+            return Set.of();
+        }
+        return likeEngine.findLikedQuestionIds(memberId, questionIds);
+    }
+
+    // Redis 엔진의 좋아요 이벤트를 순서대로 DB 에 반영
+    // 행 추가 / 삭제가 실제로 일어난 경우만 좋아요 수 변경 (같은 이벤트를 다시 반영해도 결과 같음)
+    @Transactional
+    public void applyLikeEvents(List<LikeEvent> events){
+        Map<Long, Integer> deltas = new TreeMap<>();
+        for (LikeEvent event : events) {
+            int changed = event.isLiked()
+                    ? likeRepository.insertIfAbsent(event.getQuestionId(), event.getMemberId())
+                    : likeRepository.deleteByQuestionIdAndMemberId(event.getQuestionId(), event.getMemberId());
+            if (changed > 0) {
+                deltas.merge(event.getQuestionId(), event.getDelta(), Integer::sum);
+            }
+        }
+        deltas.forEach((questionId, delta) -> {
+            if (delta != 0) {
+                questionService.addLikeCount(questionId, delta);
+            }
+        });
+        if (!deltas.isEmpty()) {
+            // 좋아요 순 정렬은 순서가 바뀌고, 다른 정렬은 이 질문들의 좋아요 수만 바뀜
+            questionPageCache.evictSorts(QuestionSortType.MOSTLIKES, QuestionSortType.LEASTLIKES);
+            deltas.keySet().forEach(questionPageCache::evictQuestion);
         }
     }
 
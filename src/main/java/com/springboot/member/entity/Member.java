@@ -12,6 +12,7 @@ import javax.persistence.*;
 import javax.validation.constraints.Email;
 import javax.validation.constraints.NotBlank;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Entity
@@ -42,8 +43,13 @@ public class Member extends BaseEntity {
     @Column(length = 20, nullable = false)
     private MemberStatus memberStatus = MemberStatus.MEMBER_ACTIVE;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    private List<String> roles = new ArrayList<>();
+    // 상태가 바뀔 때마다 증가, 이전 버전으로 발급된 토큰 거부용
+    @Column(nullable = false)
+    private int statusVersion = 0;
+
+    // 역할 bit 합 (Role.bit), 별도 테이블 join 없이 member 한 행에서 읽음
+    @Column(nullable = false)
+    private int roleMask = Role.USER.getBit();
 
     @OneToMany(mappedBy = "member", cascade = CascadeType.ALL)
     private List<Question> questions = new ArrayList<>();
@@ -57,9 +63,15 @@ public class Member extends BaseEntity {
         }
     }
 
+    // 역할 이름 목록 (ROLE_ 없음), 토큰 claims 용
+    public List<String> getRoles() {
+        return Role.names(roleMask);
+    }
+
+    // 작성한 질문은 컬렉션을 불러오지 않고 QuestionRepository.deactivateQuestionsByMemberId 로 한 번에 비활성화
     public void deactivate(){
         this.memberStatus = MemberStatus.MEMBER_QUIT;
-        this.questions.forEach(question -> question.deactivate());
+        this.statusVersion += 1;
     }
 
 
@@ -75,5 +87,47 @@ public class Member extends BaseEntity {
         }
     }
 
+    // bit 는 저장된 값이 바뀌지 않도록 선언 순서가 아닌 고정 값 (새 역할은 다음 bit 사용)
+    public enum Role {
+        ADMIN(1 << 1),
+        USER(1);
+
+        @Getter
+        private final int bit;
+
+        Role(int bit) {
+            this.bit = bit;
+        }
+
+        // 역할 조합마다 한 번만 만들어 공유
+        private static final List<List<String>> NAMES = new ArrayList<>();
+
+        static {
+            int combinations = 1 << values().length;
+            for (int mask = 0; mask < combinations; mask++) {
+                List<String> names = new ArrayList<>();
+                for (Role role : values()) {
+                    if ((mask & role.bit) != 0) {
+                        names.add(role.name());
+                    }
+                }
+                NAMES.add(List.copyOf(names));
+            }
+        }
+
+        public static List<String> names(int mask) {
+            return NAMES.get(mask);
+        }
+
+        // 알 수 없는 이름은 예외 (IllegalArgumentException)
+        public static int mask(Collection<String> names) {
+            int mask = 0;
+            for (String name : names) {
+                mask |= valueOf(name).bit;
+            }
+            return mask;
+        }
+    }
+
 
 }
@@ -2,9 +2,28 @@ package com.springboot.member.repository;
 
 import com.springboot.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByEmail(String email);
+
+    // 인증 필터의 회원 상태 확인용, 엔티티/roles 로딩 없이 버전 값만 조회
+    @Query("SELECT m.statusVersion FROM Member m WHERE m.memberId = :memberId AND m.memberStatus = :memberStatus")
+    Optional<Integer> findStatusVersion(@Param("memberId") long memberId,
+                                        @Param("memberStatus") Member.MemberStatus memberStatus);
+
+    // 토큰 재발급용, 현재 역할 / 상태 버전만 PK 로 조회 (탈퇴 회원은 empty)
+    @Query("SELECT m.roleMask AS roleMask, m.statusVersion AS statusVersion FROM Member m "
+            + "WHERE m.memberId = :memberId AND m.memberStatus = :memberStatus")
+    Optional<TokenClaims> findTokenClaims(@Param("memberId") long memberId,
+                                          @Param("memberStatus") Member.MemberStatus memberStatus);
+
+    interface TokenClaims {
+        int getRoleMask();
+
+        int getStatusVersion();
+    }
 }
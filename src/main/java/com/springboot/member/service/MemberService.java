@@ -1,12 +1,19 @@
 package com.springboot.member.service;
 
+import com.springboot.auth.jwt.JwtTokenizer;
 import com.springboot.auth.utils.AuthorityUtils;
 import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
 import com.springboot.member.entity.Member;
 import com.springboot.member.repository.MemberRepository;
+import com.springboot.question.cache.QuestionPageCache;
+import com.springboot.question.entity.Question;
+import com.springboot.question.ranking.HotQuestionRanking;
 import com.springboot.question.repository.QuestionRepository;
+import com.springboot.question.service.QuestionCounter;
 import com.springboot.utils.AuthorizationUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -15,20 +22,36 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.List;
 import java.util.Optional;
 
 @Service
 public class MemberService {
     private final MemberRepository memberRepository;
+    private final QuestionRepository questionRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthorityUtils authorityUtils;
+    private final QuestionCounter questionCounter;
+    private final QuestionPageCache questionPageCache;
+    private final HotQuestionRanking hotQuestionRanking;
+    private final JwtTokenizer jwtTokenizer;
+    // 탈퇴 후 캐시 / 질문 수 정리용 (Spring Boot 기본 task executor)
+    private final TaskExecutor taskExecutor;
 
-    public MemberService(MemberRepository memberRepository, QuestionRepository questionRepository, PasswordEncoder passwordEncoder, AuthorityUtils authorityUtils) {
+    public MemberService(MemberRepository memberRepository, QuestionRepository questionRepository, PasswordEncoder passwordEncoder, AuthorityUtils authorityUtils,
+                         QuestionCounter questionCounter, QuestionPageCache questionPageCache, HotQuestionRanking hotQuestionRanking,
+                         JwtTokenizer jwtTokenizer, @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
         this.memberRepository = memberRepository;
+        this.questionRepository = questionRepository;
         this.passwordEncoder = passwordEncoder;
         this.authorityUtils = authorityUtils;
+        this.questionCounter = questionCounter;
+        this.questionPageCache = questionPageCache;
+        this.hotQuestionRanking = hotQuestionRanking;
+        this.jwtTokenizer = jwtTokenizer;
+        this.taskExecutor = taskExecutor;
     }
 
     public Member createMember(Member member){
@@ -38,8 +61,7 @@ public class MemberService {
         String encryptedPassword = passwordEncoder.encode(member.getPassword());
         member.setPassword(encryptedPassword);
         // 역할 초기화
-        List<String> roles = authorityUtils.createRoles(member.getEmail());
-        member.setRoles(roles);
+        member.setRoleMask(authorityUtils.createRoleMask(member.getEmail()));
         // 저장
         return memberRepository.save(member);
     }
@@ -87,10 +109,30 @@ public class MemberService {
         if(findMember.getMemberStatus() == Member.MemberStatus.MEMBER_QUIT){
             throw new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND);
         }
-        // 탈퇴 상태로 변경, deactivate 내부에서 question도 비활성화로 변경
+        // 탈퇴 상태로 변경 (질문 수와 상관없이 UPDATE 2번)
         findMember.deactivate();
-        // 저장
         memberRepository.save(findMember);
+        // 목록에서 빠지게 될 질문 수
+        int listedQuestions = questionRepository.deactivateQuestionsByMemberId(memberId, Question.QuestionStatus.QUESTION_DEACTIVED);
+        // 발급된 토큰 삭제, 토큰 저장소 장애로 실패하면 탈퇴도 롤백
+        jwtTokenizer.deleteRegisterToken(findMember.getEmail());
+        if(listedQuestions > 0){
+            // 커밋 후 요청 스레드 밖에서 정리
+            afterCommitAsync(() -> {
+                questionCounter.add(-listedQuestions);
+                questionPageCache.evictAll();
+                hotQuestionRanking.removeMember(memberId);
+            });
+        }
+    }
+
+    private void afterCommitAsync(Runnable task){
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                taskExecutor.execute(task);
+            }
+        });
     }
 
     // 중복된 이메일이 있는지 검증
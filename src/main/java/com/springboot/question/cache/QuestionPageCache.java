@@ -0,0 +1,188 @@
+package com.springboot.question.cache;
+
+import com.springboot.question.dto.QuestionDto;
+import com.springboot.question.service.QuestionSortType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// 정렬 조건별 앞쪽 목록 페이지를 응답 DTO 그대로 보관하는 캐시 (mode=page, mine 제외)
+// 비밀글 제목은 가리지 않은 상태로 저장하고, 보는 사람마다 캐시 밖에서 가림
+// 변경 시 해당 질문이 들어 있는 페이지만 제거하고 pub/sub 으로 다른 노드에도 전달
+// 메시지를 놓쳐도 ttl 이후에는 다시 DB 조회
+@Slf4j
+@Component
+public class QuestionPageCache {
+    public static final String INVALIDATION_TOPIC = "question-page-invalidation";
+    // 무효화 메시지 : "*" 전체, "sort:NEWEST,OLDEST" 정렬 조건 전체, "question:1" 해당 질문이 있는 페이지
+    private static final String ALL = "*";
+    private static final String SORT_PREFIX = "sort:";
+    private static final String QUESTION_PREFIX = "question:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final int pages;
+    private final int maxPageSize;
+    private final long ttlMillis;
+    private final boolean fanOut;
+    private final Map<PageKey, CachedPage> entries = new ConcurrentHashMap<>();
+    // 무효화될 때마다 증가, 조회 시작 후 무효화가 있었으면 조회 결과를 저장하지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    public QuestionPageCache(RedisTemplate<String, Object> redisTemplate,
+                             @Value("${question.page-cache.pages:3}") int pages,
+                             @Value("${question.page-cache.max-page-size:50}") int maxPageSize,
+                             @Value("${question.page-cache.ttl-seconds:30}") long ttlSeconds,
+                             @Value("${question.page-cache.fan-out:${jwt.token-store:redis}}") String fanOut) {
+        this.redisTemplate = redisTemplate;
+        this.pages = pages;
+        this.maxPageSize = maxPageSize;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.fanOut = "redis".equalsIgnoreCase(fanOut);
+    }
+
+    public boolean isCacheable(int page, int size){
+        return page <= pages && size <= maxPageSize && ttlMillis > 0;
+    }
+
+    public long generation(){
+        return generation.get();
+    }
+
+    // 비밀글 제목을 가리지 않은 페이지, 없거나 만료됐으면 null
+    public Page<QuestionDto.Response> get(QuestionSortType sortType, int page, int size){
+        PageKey key = new PageKey(sortType, page, size);
+        CachedPage cachedPage = entries.get(key);
+        if(cachedPage == null){
+            return null;
+        }
+        if(cachedPage.expiresAt < System.currentTimeMillis()){
+            entries.remove(key, cachedPage);
+            return null;
+        }
+        return cachedPage.page;
+    }
+
+    // 조회 시작 시점의 generation 과 다르면 (조회 중 무효화) 저장하지 않음
+    public void put(QuestionSortType sortType, int page, int size, Page<QuestionDto.Response> questionPage, long loadedGeneration){
+        PageKey key = new PageKey(sortType, page, size);
+        CachedPage cachedPage = new CachedPage(questionPage, System.currentTimeMillis() + ttlMillis);
+        entries.put(key, cachedPage);
+        // put 직전에 무효화가 끼어든 경우
+        if(generation.get() != loadedGeneration){
+            entries.remove(key, cachedPage);
+        }
+    }
+
+    // 질문 등록, 비활성화 : 전체 개수와 모든 정렬 순서가 바뀜
+    public void evictAll(){
+        afterCommit(ALL);
+    }
+
+    // 정렬 값 변경 (좋아요 등) : 해당 정렬 조건의 페이지 전체
+    public void evictSorts(QuestionSortType... sortTypes){
+        afterCommit(SORT_PREFIX + Arrays.stream(sortTypes).map(Enum::name).collect(Collectors.joining(",")));
+    }
+
+    // 내용 변경 (수정, 삭제, 답변, 좋아요 수) : 해당 질문이 들어 있는 페이지만
+    public void evictQuestion(long questionId){
+        afterCommit(QUESTION_PREFIX + questionId);
+    }
+
+    // 다른 노드에서 받은 메시지 (재발행 X)
+    public void apply(String message){
+        generation.incrementAndGet();
+        if(ALL.equals(message)){
+            entries.clear();
+        } else if(message.startsWith(SORT_PREFIX)){
+            for(String sortType : message.substring(SORT_PREFIX.length()).split(",")){
+                QuestionSortType questionSortType = QuestionSortType.valueOf(sortType);
+                entries.keySet().removeIf(key -> key.sortType == questionSortType);
+            }
+        } else if(message.startsWith(QUESTION_PREFIX)){
+            long questionId = Long.parseLong(message.substring(QUESTION_PREFIX.length()));
+            entries.values().removeIf(cachedPage -> cachedPage.contains(questionId));
+        }
+    }
+
+    public int size(){
+        return entries.size();
+    }
+
+    // 트랜잭션 안이면 커밋 후에 제거 (롤백된 변경은 무효화 X), 이후 다른 노드로 전달
+    private void afterCommit(String message){
+        if(TransactionSynchronizationManager.isSynchronizationActive()){
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(message);
+                }
+            });
+        } else {
+            invalidate(message);
+        }
+    }
+
+    private void invalidate(String message){
+        apply(message);
+        if(!fanOut){
+            return;
+        }
+        // Redis 장애 시에도 요청은 계속, 다른 노드는 ttl 이후 갱신
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_TOPIC, message);
+        } catch (Exception e) {
+            log.warn("# question page invalidation publish failed: {}", e.getMessage());
+        }
+    }
+
+    private static class PageKey {
+        private final QuestionSortType sortType;
+        private final int page;
+        private final int size;
+
+        private PageKey(QuestionSortType sortType, int page, int size) {
+            this.sortType = sortType;
+            this.page = page;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof PageKey)) return false;
+            PageKey pageKey = (PageKey) o;
+            return page == pageKey.page && size == pageKey.size && sortType == pageKey.sortType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sortType, page, size);
+        }
+    }
+
+    private static class CachedPage {
+        private final Page<QuestionDto.Response> page;
+        private final long expiresAt;
+
+        private CachedPage(Page<QuestionDto.Response> page, long expiresAt) {
+            this.page = page;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean contains(long questionId){
+            return page.getContent().stream().anyMatch(response -> response.getQuestionId() == questionId);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.springboot.question.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+
+// 다른 노드의 질문 변경을 받아 로컬 목록 페이지 캐시에서 제거
+@Slf4j
+@Component
+@ConditionalOnExpression("'${question.page-cache.fan-out:${jwt.token-store:redis}}'.equalsIgnoreCase('redis')")
+public class QuestionPageInvalidationListener implements MessageListener {
+    private final QuestionPageCache questionPageCache;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    public QuestionPageInvalidationListener(QuestionPageCache questionPageCache, RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.questionPageCache = questionPageCache;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String invalidation = new String(message.getBody(), StandardCharsets.UTF_8);
+        questionPageCache.apply(invalidation);
+        log.debug("# question page cache invalidated : {}", invalidation);
+    }
+
+    // 공용 컨테이너에 채널 등록, 구독은 기동 완료 후 컨테이너가 시작
+    // Redis에 연결하지 못해도 캐시 항목은 ttl 이후 만료됨
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(QuestionPageCache.INVALIDATION_TOPIC));
+    }
+}
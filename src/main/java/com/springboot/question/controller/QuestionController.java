@@ -2,11 +2,13 @@ package com.springboot.question.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.springboot.auth.CustomPrincipal;
+import com.springboot.dto.CursorResponseDto;
 import com.springboot.dto.MultiResponseDto;
 import com.springboot.dto.SingleResponseDto;
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import com.springboot.like.service.LikeCountReconciler;
 import com.springboot.like.service.LikeService;
-import com.springboot.member.entity.Member;
-import com.springboot.member.service.MemberService;
 import com.springboot.question.dto.QuestionDto;
 import com.springboot.question.entity.Question;
 import com.springboot.question.mapper.QuestionMapper;
@@ -15,9 +17,11 @@ import com.springboot.utils.AuthorizationUtils;
 import com.springboot.utils.UriCreator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -27,6 +31,8 @@ import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import java.net.URI;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/qna/questions")
@@ -37,15 +43,16 @@ public class QuestionController {
     private final QuestionMapper questionMapper;
     private final QuestionService questionService;
     private final LikeService likeService;
-    private final MemberService memberService;
     private final ObjectMapper objectMapper;
+    private final LikeCountReconciler likeCountReconciler;
 
-    public QuestionController(QuestionMapper questionMapper, QuestionService questionService, LikeService likeService, MemberService memberService, ObjectMapper objectMapper) {
+    public QuestionController(QuestionMapper questionMapper, QuestionService questionService, LikeService likeService, ObjectMapper objectMapper,
+                              LikeCountReconciler likeCountReconciler) {
         this.questionMapper = questionMapper;
         this.questionService = questionService;
         this.likeService = likeService;
-        this.memberService = memberService;
         this.objectMapper = objectMapper;
+        this.likeCountReconciler = likeCountReconciler;
     }
 
     @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.MULTIPART_FORM_DATA_VALUE})
@@ -87,18 +94,44 @@ public class QuestionController {
             @AuthenticationPrincipal CustomPrincipal customPrincipal) {
         Question question = questionService.findQuestion(
                 questionId, customPrincipal.getMemberId(), AuthorizationUtils.isAdmin());
-        return new ResponseEntity(new SingleResponseDto<>(questionMapper.questionToQuestionResponse(question)), HttpStatus.OK);
+        QuestionDto.Response response = questionMapper.questionToQuestionResponse(question);
+        response.setUniqueViewers(questionService.countUniqueViewers(questionId));
+        return new ResponseEntity(new SingleResponseDto<>(
+                withLikedByMe(List.of(response), customPrincipal.getMemberId()).get(0)), HttpStatus.OK);
     }
 
+    // mode=page : 기존 offset 페이지 (page, 전체 개수 포함)
+    // mode=slice : count 쿼리 없이 hasNext 만 확인, 전체 개수는 주기적으로 보정되는 값
+    // mode=cursor : 응답의 nextCursor 로 다음 페이지 요청 (페이지 깊이와 상관없이 일정한 비용)
+    // mine=true : 내가 쓴 질문만 (page, slice 모드)
     @GetMapping
-    public ResponseEntity getQuestions(@Positive @RequestParam int page, @Positive @RequestParam int size,
+    public ResponseEntity getQuestions(@Positive @RequestParam(defaultValue = "1") int page, @Positive @RequestParam int size,
                                        @RequestParam(defaultValue = "newest") String sortType,
+                                       @RequestParam(defaultValue = "page") String mode,
+                                       @RequestParam(required = false) String cursor,
+                                       @RequestParam(defaultValue = "false") boolean mine,
                                        @AuthenticationPrincipal CustomPrincipal customPrincipal) {
-        Member currentMember = memberService.findVerifiedMember(customPrincipal.getMemberId());
-        Page<Question> questionPage = questionService.findQuestions(page, size, sortType, currentMember);
-        List<Question> questions = questionPage.getContent();
-        return new ResponseEntity(new MultiResponseDto<>
-                (questionMapper.questionsToQuestionResponses(questions), questionPage), HttpStatus.OK);
+        long currentMemberId = customPrincipal.getMemberId();
+        boolean isAdmin = AuthorizationUtils.isAdmin();
+        if ("cursor".equalsIgnoreCase(mode)) {
+            if (mine) {
+                throw new BusinessLogicException(ExceptionCode.INVALID_LIST_OPTION);
+            }
+            Slice<QuestionDto.Response> questionSlice =
+                    questionService.findQuestionsByCursor(cursor, size, sortType, currentMemberId, isAdmin);
+            return new ResponseEntity<>(new CursorResponseDto<>(withLikedByMe(questionSlice.getContent(), currentMemberId), size,
+                    questionService.createNextCursor(questionSlice, sortType)), HttpStatus.OK);
+        }
+        if ("slice".equalsIgnoreCase(mode)) {
+            Slice<QuestionDto.Response> questionSlice =
+                    questionService.findQuestionSlice(page, size, sortType, mine, currentMemberId, isAdmin);
+            return new ResponseEntity<>(new MultiResponseDto<>(withLikedByMe(questionSlice.getContent(), currentMemberId), questionSlice,
+                    questionService.countQuestions(mine, currentMemberId)), HttpStatus.OK);
+        }
+        Page<QuestionDto.Response> questionPage =
+                questionService.findQuestions(page, size, sortType, mine, currentMemberId, isAdmin);
+        return new ResponseEntity(new MultiResponseDto<>(withLikedByMe(questionPage.getContent(), currentMemberId), questionPage),
+                HttpStatus.OK);
     }
 
     @DeleteMapping("/{question-id}")
@@ -118,4 +151,24 @@ public class QuestionController {
         return new ResponseEntity(HttpStatus.OK);
     }
 
+    // 좋아요 수 보정 수동 실행 (관리자), 백그라운드로 시작하고 바로 응답
+    // 진행 상황은 /actuator/metrics/like.reconcile.progress
+    @PostMapping("/like-counts/reconcile")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity reconcileLikeCounts() {
+        if (!likeCountReconciler.start()) {
+            throw new BusinessLogicException(ExceptionCode.LIKE_RECONCILE_RUNNING);
+        }
+        return new ResponseEntity(HttpStatus.ACCEPTED);
+    }
+
+    // 페이지의 질문 id 로 좋아요 여부를 한 번에 조회 (페이지 크기와 상관없이 일정한 쿼리 수)
+    private List<QuestionDto.Response> withLikedByMe(List<QuestionDto.Response> responses, long currentMemberId) {
+        Set<Long> likedQuestionIds = likeService.findLikedQuestionIds(currentMemberId, responses.stream()
+                .map(QuestionDto.Response::getQuestionId)
+                .collect(Collectors.toList()));
+        return responses.stream()
+                .map(response -> response.withLikedByMe(likedQuestionIds.contains(response.getQuestionId())))
+                .collect(Collectors.toList());
+    }
 }
@@ -3,6 +3,7 @@ package com.springboot.question.dto;
 import com.springboot.answer.dto.AnswerDto;
 import com.springboot.member.entity.Member;
 import com.springboot.question.entity.Question;
+import com.springboot.utils.Default;
 import com.springboot.validator.NotSpace;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -50,8 +51,11 @@ public class QuestionDto {
     }
 
     @Getter
-    @AllArgsConstructor
+    @AllArgsConstructor(onConstructor_ = @Default)
     public static class Response{
+        // 작성자 본인, 관리자가 아닌 사용자에게 보이는 비밀글 제목
+        public static final String SECRET_TITLE = "비밀글입니다.";
+
         private long questionId;
         private String title;
         private String content;
@@ -65,6 +69,44 @@ public class QuestionDto {
         private int likeCount;
         private LocalDateTime createdAt;
         private LocalDateTime modifiedAt;
+        // 순 조회자 추정값 (HyperLogLog, 약 1.6% 오차)
+        // 캐시된 목록 페이지는 캐시에 넣을 때의 값
+        private long uniqueViewers;
+        // 요청한 회원이 좋아요를 눌렀는지 (목록은 페이지 단위로 한 번에 조회)
+        private boolean likedByMe;
+
+        // 목록 조회 projection 용 생성자 (JPQL constructor expression)
+        // 답변은 left join 컬럼을 펼쳐서 받고, 답변이 없으면 answerId 가 null
+        public Response(long questionId, String title, String content, Question.QuestionStatus questionStatus,
+                        Question.Visibility visibility, int viewCount, long memberId, String memberName,
+                        Long answerId, String answerContent, LocalDateTime answerCreatedAt, LocalDateTime answerModifiedAt,
+                        String questionImage, int likeCount, LocalDateTime createdAt, LocalDateTime modifiedAt){
+            this(questionId, title, content, questionStatus, visibility, viewCount, memberId, memberName,
+                    answerId == null ? null : new AnswerDto.Response(answerId, answerContent, answerCreatedAt, answerModifiedAt),
+                    questionImage, likeCount, createdAt, modifiedAt, 0L, false);
+        }
+
+        // 캐시된 응답은 여러 사용자가 공유하므로 원본을 바꾸지 않고 가린 사본 반환
+        public Response hideSecretTitle(long currentMemberId, boolean isAdmin){
+            if(visibility != Question.Visibility.QUESTION_SECRET || memberId == currentMemberId || isAdmin){
+                return this;
+            }
+            return new Response(questionId, SECRET_TITLE, content, questionStatus, visibility, viewCount, memberId, memberName,
+                    answer, questionImage, likeCount, createdAt, modifiedAt, uniqueViewers, likedByMe);
+        }
+
+        // 캐시된 응답을 공유하므로 값이 다를 때만 사본 반환
+        public Response withLikedByMe(boolean likedByMe){
+            if(this.likedByMe == likedByMe){
+                return this;
+            }
+            return new Response(questionId, title, content, questionStatus, visibility, viewCount, memberId, memberName,
+                    answer, questionImage, likeCount, createdAt, modifiedAt, uniqueViewers, likedByMe);
+        }
+
+        public void setUniqueViewers(long uniqueViewers){
+            this.uniqueViewers = uniqueViewers;
+        }
 
         public String getQuestionStatus(){
             return questionStatus.getStatus();
@@ -11,7 +11,22 @@ import lombok.Setter;
 import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
 
+// 목록 정렬 조건별 인덱스 (정렬 값, question_id, question_status)
+// 목록은 비활성화 글만 제외(!=)하므로 status 를 앞에 두면 정렬 순서대로 읽을 수 없음
+// 정렬 순서대로 인덱스를 읽고 status 는 인덱스 안에서 걸러냄 (테이블 조회 X)
+// H2 는 인덱스를 역순으로 읽지 못해서 내림차순 정렬용 인덱스를 따로 둠
+// columnList 는 논리 컬럼명 기준 (이름을 직접 지정한 컬럼은 그 이름, 나머지는 필드명)
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_question_created_at", columnList = "created_at, questionId, questionStatus"),
+        @Index(name = "idx_question_created_at_desc", columnList = "created_at DESC, questionId DESC, questionStatus"),
+        @Index(name = "idx_question_like_count", columnList = "likeCount, questionId, questionStatus"),
+        @Index(name = "idx_question_like_count_desc", columnList = "likeCount DESC, questionId DESC, questionStatus"),
+        @Index(name = "idx_question_view_count", columnList = "viewCount, questionId, questionStatus"),
+        @Index(name = "idx_question_view_count_desc", columnList = "viewCount DESC, questionId DESC, questionStatus"),
+        // 내 질문 목록 (mine=true)
+        @Index(name = "idx_question_member_created_at", columnList = "member_id, created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -72,24 +87,6 @@ public class Question extends BaseEntity {
         }
     }
 
-    public void addLikeCount(){
-        this.likeCount += 1;
-    }
-
-    public void minusLikeCount(){
-        this.likeCount -= 1;
-    }
-
-    public String getDisplayTitle(Member currentUser){
-        if(visibility == Visibility.QUESTION_SECRET){
-            if(member.equals(currentUser) || currentUser.getRoles().contains("ROLE_ADMIN")){
-                return title;
-            } else {
-                return "비밀글입니다.";
-            }
-        } return title;
-    }
-
     public enum QuestionStatus{
         QUESTION_REGISTERED("질문 등록"),
         QUESTION_ANSWERED("답변 완료"),
@@ -2,7 +2,6 @@ package com.springboot.question.mapper;
 
 import com.springboot.answer.dto.AnswerDto;
 import com.springboot.answer.entity.Answer;
-import com.springboot.member.entity.Member;
 import com.springboot.question.dto.QuestionDto;
 import com.springboot.question.entity.Question;
 import org.mapstruct.Mapper;
@@ -21,13 +20,9 @@ public interface QuestionMapper {
     @Mapping(target = "answer", source = "answer")
     @Mapping(target = "memberId", source = "member.memberId")
     @Mapping(target = "memberName", source = "member.name")
+    @Mapping(target = "uniqueViewers", ignore = true)
+    @Mapping(target = "likedByMe", ignore = true)
     QuestionDto.Response questionToQuestionResponse(Question question);
     List<QuestionDto.Response> questionsToQuestionResponses(List<Question> questions);
-//    default List<Question> questionsToSecretTitleQuestions(List<Question> questions, Member currentMember){
-//        questions.stream().forEach(
-//                question -> question.setTitle(question.getDisplayTitle(currentMember))
-//        );
-//        return questions;
-//    }
 
 }
@@ -0,0 +1,300 @@
+package com.springboot.question.ranking;
+
+import com.springboot.question.dto.QuestionDto;
+import com.springboot.question.entity.Question;
+import com.springboot.question.repository.QuestionRepository;
+import com.springboot.question.viewer.UniqueViewerCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+
+// HOT 정렬 목록, DB 조회 없이 메모리의 점수 순 skip list 에서 바로 응답
+// 점수 = 활동(등록, 좋아요, 조회, 답변) 가중치 합을 반감기마다 절반으로 줄인 값
+// 모든 질문이 같은 비율로 줄어들므로 기준 시각(epoch) 에 대한 값으로 저장하고 활동 시점의 가중치만 더함 (재계산 X)
+// 시작 시, 이후 rebuild-millis 마다 DB 의 좋아요 / 조회수로 다시 만듦 (목록의 좋아요 / 조회수도 이때 갱신)
+// 다시 만들 때는 DB 에 활동 시각이 없으므로 등록 시점의 활동으로 계산
+// 노드마다 자기 노드의 활동만 바로 반영하고 다른 노드의 활동은 다시 만들 때 반영
+// 목록 밖의 질문(오래되었거나 점수가 낮아 빠진 질문)의 활동도 다시 만들 때 반영
+@Slf4j
+@Component
+public class HotQuestionRanking {
+    // 점수 높은 순, 같으면 최근 질문 먼저
+    private static final Comparator<Entry> ORDER = Comparator.comparingDouble((Entry entry) -> entry.score).reversed()
+            .thenComparing(Comparator.comparingLong((Entry entry) -> entry.questionId).reversed());
+
+    private final QuestionRepository questionRepository;
+    private final UniqueViewerCounter uniqueViewerCounter;
+    private final int topK;
+    private final int capacity;
+    private final double halfLifeSeconds;
+    private final double baseWeight;
+    private final double likeWeight;
+    private final double viewWeight;
+    private final double answerWeight;
+    private final int windowDays;
+
+    private volatile Board board = new Board(nowSeconds());
+
+    public HotQuestionRanking(QuestionRepository questionRepository, UniqueViewerCounter uniqueViewerCounter,
+                              @Value("${question.hot.top-k:1000}") int topK,
+                              @Value("${question.hot.capacity:5000}") int capacity,
+                              @Value("${question.hot.half-life-hours:12}") double halfLifeHours,
+                              @Value("${question.hot.base-weight:1.0}") double baseWeight,
+                              @Value("${question.hot.like-weight:3.0}") double likeWeight,
+                              @Value("${question.hot.view-weight:0.1}") double viewWeight,
+                              @Value("${question.hot.answer-weight:5.0}") double answerWeight,
+                              @Value("${question.hot.window-days:7}") int windowDays) {
+        this.questionRepository = questionRepository;
+        this.uniqueViewerCounter = uniqueViewerCounter;
+        this.topK = topK;
+        this.capacity = Math.max(capacity, topK);
+        this.halfLifeSeconds = halfLifeHours * 3600;
+        this.baseWeight = baseWeight;
+        this.likeWeight = likeWeight;
+        this.viewWeight = viewWeight;
+        this.answerWeight = answerWeight;
+        this.windowDays = windowDays;
+    }
+
+    // 앞에서부터 건너뛰고 size 개만 읽음 (top-k 밖의 페이지는 비어 있음)
+    // 응답은 모든 사용자가 공유하는 원본 (비밀글 제목은 호출한 쪽에서 가림)
+    public Page<QuestionDto.Response> findPage(int page, int size) {
+        Board current = board;
+        List<QuestionDto.Response> content = read(current, page, size, size);
+        return new PageImpl<>(content, PageRequest.of(page - 1, size, Sort.unsorted()),
+                Math.min(current.entries.size(), topK));
+    }
+
+    // size + 1 개를 읽어서 다음 페이지 존재 여부 판단
+    public Slice<QuestionDto.Response> findSlice(int page, int size) {
+        List<QuestionDto.Response> content = read(board, page, size, size + 1);
+        boolean hasNext = content.size() > size;
+        return new SliceImpl<>(hasNext ? content.subList(0, size) : content,
+                PageRequest.of(page - 1, size, Sort.unsorted()), hasNext);
+    }
+
+    public void recordLike(long questionId, int delta) {
+        record(questionId, likeWeight * delta);
+    }
+
+    public void recordView(long questionId) {
+        record(questionId, viewWeight);
+    }
+
+    public void recordAnswer(long questionId) {
+        record(questionId, answerWeight);
+    }
+
+    // 새 질문은 등록 가중치로 바로 목록에 들어감 (DB 조회는 등록 시 한 번)
+    public void recordCreated(long questionId) {
+        afterCommit(() -> {
+            QuestionDto.Response loaded = load(questionId);
+            if (loaded == null) {
+                return;
+            }
+            Board current = board;
+            current.entries.computeIfAbsent(questionId, id -> current.replace(null,
+                    new Entry(id, current.initialScore(loaded), loaded)));
+            current.trim();
+        });
+    }
+
+    // 제목 / 내용 / 답변이 바뀐 질문의 응답 다시 조회 (목록에 있는 질문만)
+    public void refresh(long questionId) {
+        afterCommit(() -> {
+            Board current = board;
+            if (!current.entries.containsKey(questionId)) {
+                return;
+            }
+            Optional<QuestionDto.Response> response = questionRepository.findQuestionResponseById(questionId, 0L, true)
+                    .filter(HotQuestionRanking::isListed);
+            if (response.isEmpty()) {
+                current.remove(questionId);
+                return;
+            }
+            response.get().setUniqueViewers(uniqueViewerCounter.estimate(questionId));
+            current.entries.computeIfPresent(questionId, (id, entry) -> current.replace(entry,
+                    new Entry(questionId, entry.score, response.get())));
+        });
+    }
+
+    public void remove(long questionId) {
+        afterCommit(() -> board.remove(questionId));
+    }
+
+    // 탈퇴한 회원의 질문 제거 (목록에 있는 질문만 확인)
+    public void removeMember(long memberId) {
+        afterCommit(() -> {
+            Board current = board;
+            current.entries.values().stream()
+                    .filter(entry -> entry.response.getMemberId() == memberId)
+                    .forEach(entry -> current.remove(entry.questionId));
+        });
+    }
+
+    // window-days 안에 등록된 질문 중 최근 capacity 개로 다시 만들고 한 번에 교체
+    // 만드는 동안 들어온 활동은 이전 목록에만 반영됨 (DB 값으로 다음에 다시 만들 때 반영)
+    @Scheduled(fixedDelayString = "${question.hot.rebuild-millis:600000}")
+    public void rebuild() {
+        long now = nowSeconds();
+        List<QuestionDto.Response> responses = questionRepository.findHotCandidates(
+                LocalDateTime.now().minusDays(windowDays), 0L, true,
+                PageRequest.of(0, capacity, Sort.by(Sort.Direction.DESC, "createdAt")));
+        Map<Long, Long> estimates = uniqueViewerCounter.estimates(responses.stream()
+                .map(QuestionDto.Response::getQuestionId)
+                .collect(Collectors.toList()));
+        Board next = new Board(now);
+        responses.forEach(response -> {
+            response.setUniqueViewers(estimates.getOrDefault(response.getQuestionId(), 0L));
+            Entry entry = new Entry(response.getQuestionId(), next.initialScore(response), response);
+            next.entries.put(entry.questionId, entry);
+            next.ranking.add(entry);
+        });
+        board = next;
+        log.info("# hot questions rebuilt : {} questions", responses.size());
+    }
+
+    // 목록에 있는 질문만 반영 (요청 스레드에서 DB 조회 X), 목록 밖의 질문은 다시 만들 때 DB 값으로 반영
+    private void record(long questionId, double weight) {
+        Board current = board;
+        double added = weight * current.growth(nowSeconds());
+        // 좋아요 취소는 지금 가중치만큼 빼되 0 아래로는 내려가지 않음
+        current.entries.computeIfPresent(questionId, (id, entry) ->
+                current.replace(entry, new Entry(id, Math.max(entry.score + added, 0), entry.response)));
+    }
+
+    private QuestionDto.Response load(long questionId) {
+        return questionRepository.findQuestionResponseById(questionId, 0L, true)
+                .filter(HotQuestionRanking::isListed)
+                .map(response -> {
+                    response.setUniqueViewers(uniqueViewerCounter.estimate(questionId));
+                    return response;
+                })
+                .orElse(null);
+    }
+
+    // 삭제 / 비활성화된 질문은 HOT 목록에서 제외
+    private static boolean isListed(QuestionDto.Response response) {
+        return !response.getQuestionStatus().equals(Question.QuestionStatus.QUESTION_DELETED.getStatus())
+                && !response.getQuestionStatus().equals(Question.QuestionStatus.QUESTION_DEACTIVED.getStatus());
+    }
+
+    private List<QuestionDto.Response> read(Board current, int page, int size, int limit) {
+        long offset = (long) (page - 1) * size;
+        List<QuestionDto.Response> content = new ArrayList<>(limit);
+        if (offset >= topK) {
+            return content;
+        }
+        long end = Math.min(offset + limit, topK);
+        Iterator<Entry> iterator = current.ranking.iterator();
+        for (long index = 0; index < end && iterator.hasNext(); index++) {
+            Entry entry = iterator.next();
+            if (index >= offset) {
+                content.add(entry.response);
+            }
+        }
+        return content;
+    }
+
+    // 트랜잭션 안이면 커밋 후에 반영 (롤백된 변경은 반영 X)
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    private static final class Entry {
+        private final long questionId;
+        private final double score;
+        private final QuestionDto.Response response;
+
+        private Entry(long questionId, double score, QuestionDto.Response response) {
+            this.questionId = questionId;
+            this.score = score;
+            this.response = response;
+        }
+    }
+
+    // 기준 시각이 같은 점수들, 다시 만들 때마다 새 기준 시각으로 교체되므로 지수가 커지지 않음
+    private final class Board {
+        private final long epochSeconds;
+        private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+        private final NavigableSet<Entry> ranking = new ConcurrentSkipListSet<>(ORDER);
+
+        private Board(long epochSeconds) {
+            this.epochSeconds = epochSeconds;
+        }
+
+        // 기준 시각 이후 t 초에 일어난 활동의 가중치 배율
+        private double growth(long seconds) {
+            return Math.pow(2, (seconds - epochSeconds) / halfLifeSeconds);
+        }
+
+        // 지금까지의 좋아요 / 조회수 / 답변을 등록 시점의 활동으로 계산
+        private double initialScore(QuestionDto.Response response) {
+            double weight = baseWeight + likeWeight * response.getLikeCount() + viewWeight * response.getViewCount()
+                    + (response.getAnswer() == null ? 0 : answerWeight);
+            return weight * growth(response.getCreatedAt().atZone(ZoneId.systemDefault()).toEpochSecond());
+        }
+
+        // entries.compute 안에서 호출 (같은 질문의 skip list 교체는 한 번에 하나)
+        private Entry replace(Entry previous, Entry next) {
+            if (previous != null) {
+                ranking.remove(previous);
+            }
+            ranking.add(next);
+            return next;
+        }
+
+        private void remove(long questionId) {
+            entries.computeIfPresent(questionId, (id, entry) -> {
+                ranking.remove(entry);
+                return null;
+            });
+        }
+
+        // capacity 를 넘으면 점수가 가장 낮은 질문부터 제거
+        private void trim() {
+            while (entries.size() > capacity) {
+                Entry last = ranking.pollLast();
+                if (last == null) {
+                    return;
+                }
+                entries.remove(last.questionId, last);
+            }
+        }
+    }
+}
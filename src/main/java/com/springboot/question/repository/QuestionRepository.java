@@ -1,22 +1,164 @@
 package com.springboot.question.repository;
 
+import com.springboot.question.dto.QuestionDto;
 import com.springboot.question.entity.Question;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface QuestionRepository extends JpaRepository<Question, Long> {
-    @Query("SELECT q FROM Question q WHERE q.questionStatus != 'QUESTION_DEACTIVATED'")
-    Page<Question> findAllQuestionsWithoutDeactivated(Pageable pageable);
+    // 목록 응답용 projection, 작성자 / 답변을 join 한 한 번의 쿼리로 응답 DTO 생성 (엔티티 로딩 X)
+    // 비밀글 제목은 SQL CASE 로 가림 (작성자 본인이나 관리자가 아니면 "비밀글입니다.")
+    // :currentMemberId, :isAdmin 은 토큰의 회원 id / 관리자 여부 (회원 조회 X)
+    String QUESTION_RESPONSE_SELECT = "SELECT new com.springboot.question.dto.QuestionDto$Response("
+            + "q.questionId, "
+            + "CASE WHEN q.visibility = 'QUESTION_SECRET' AND m.memberId <> :currentMemberId AND :isAdmin = false "
+            + "THEN '" + QuestionDto.Response.SECRET_TITLE + "' ELSE q.title END, "
+            + "q.content, q.questionStatus, q.visibility, q.viewCount, m.memberId, m.name, "
+            + "a.answerId, a.content, a.createdAt, a.modifiedAt, q.questionImage, q.likeCount, q.createdAt, q.modifiedAt) "
+            + "FROM Question q JOIN q.member m LEFT JOIN q.answer a ";
+
+    // @Query 메서드에는 기본 트랜잭션이 없으므로 목록 + count 를 readOnly 트랜잭션 하나에서 실행
+    // (서비스에 트랜잭션이 없는 캐시 미스 조회도 readOnly 로 실행)
+    @Transactional(readOnly = true)
+    @Query(value = QUESTION_RESPONSE_SELECT + "WHERE q.questionStatus != 'QUESTION_DEACTIVED'",
+            countQuery = "SELECT COUNT(q) FROM Question q WHERE q.questionStatus != 'QUESTION_DEACTIVED'")
+    Page<QuestionDto.Response> findQuestionResponsesWithoutDeactivated(@Param("currentMemberId") long currentMemberId, @Param("isAdmin") boolean isAdmin,
+                                                                       Pageable pageable);
+
+    // count 쿼리 없이 다음 페이지 존재 여부만 확인 (size + 1 개 조회)
+    @Query(QUESTION_RESPONSE_SELECT + "WHERE q.questionStatus != 'QUESTION_DEACTIVED'")
+    Slice<QuestionDto.Response> findQuestionResponseSliceWithoutDeactivated(@Param("currentMemberId") long currentMemberId, @Param("isAdmin") boolean isAdmin,
+                                                                            Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT COUNT(q) FROM Question q WHERE q.questionStatus != 'QUESTION_DEACTIVED'")
+    long countQuestionsWithoutDeactivated();
+
+    // 좋아요 수 보정 범위 (PK 인덱스의 마지막 값)
+    @Query("SELECT COALESCE(MAX(q.questionId), 0) FROM Question q")
+    long findMaxQuestionId();
+
+    // 내가 쓴 질문만 조회, (member_id, created_at) 인덱스 사용 (member 쪽이 아닌 question.member_id 로 조건)
+    @Transactional(readOnly = true)
+    @Query(value = QUESTION_RESPONSE_SELECT + "WHERE q.member.memberId = :currentMemberId AND q.questionStatus != 'QUESTION_DEACTIVED'",
+            countQuery = "SELECT COUNT(q) FROM Question q WHERE q.member.memberId = :currentMemberId "
+                    + "AND q.questionStatus != 'QUESTION_DEACTIVED'")
+    Page<QuestionDto.Response> findMyQuestionResponses(@Param("currentMemberId") long currentMemberId, @Param("isAdmin") boolean isAdmin,
+                                                       Pageable pageable);
+
+    @Query(QUESTION_RESPONSE_SELECT + "WHERE q.member.memberId = :currentMemberId AND q.questionStatus != 'QUESTION_DEACTIVED'")
+    Slice<QuestionDto.Response> findMyQuestionResponseSlice(@Param("currentMemberId") long currentMemberId, @Param("isAdmin") boolean isAdmin,
+                                                            Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT COUNT(q) FROM Question q WHERE q.member.memberId = :memberId AND q.questionStatus != 'QUESTION_DEACTIVED'")
+    long countQuestionsByMemberWithoutDeactivated(@Param("memberId") long memberId);
+
+    // 커서 페이지네이션 (count 쿼리 없이 pageable 의 정렬 / 개수만 사용)
+    // 정렬 값 + questionId 보다 뒤에 있는 행부터 인덱스로 바로 조회하므로 페이지 깊이와 상관없이 비용 일정
+    @Query(QUESTION_RESPONSE_SELECT + "WHERE q.questionStatus != 'QUESTION_DEACTIVED'")
+    List<QuestionDto.Response> findFirstQuestionResponses(@Param("currentMemberId") long currentMemberId, @Param("isAdmin") boolean isAdmin,
+                                                          Pageable pageable);
+
+    @Query(QUESTION_RESPONSE_SELECT + "WHERE q.questionStatus != 'QUESTION_DEACTIVED' AND "
+            + "(q.createdAt < :createdAt OR (q.createdAt = :createdAt AND q.questionId < :questionId))")
+    List<QuestionDto.Response> findQuestionResponsesCreatedBefore(@Param("createdAt") LocalDateTime createdAt,
+                                                                  @Param("questionId") long questionId,
+                                                                  @Param("currentMemberId") long currentMemberId, @Param("isAdmin") boolean isAdmin,
+                                                                  Pageable pageable);
+
+    @Query(QUESTION_RESPONSE_SELECT + "WHERE q.questionStatus != 'QUESTION_DEACTIVED' AND "
+            + "(q.createdAt > :createdAt OR (q.createdAt = :createdAt AND q.questionId > :questionId))")
+    List<QuestionDto.Response> findQuestionResponsesCreatedAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                                 @Param("questionId") long questionId,
+                                                                 @Param("currentMemberId") long currentMemberId, @Param("isAdmin") boolean isAdmin,
+                                                                 Pageable pageable);
 
+    @Query(QUESTION_RESPONSE_SELECT + "WHERE q.questionStatus != 'QUESTION_DEACTIVED' AND "
+            + "(q.likeCount < :likeCount OR (q.likeCount = :likeCount AND q.questionId < :questionId))")
+    List<QuestionDto.Response> findQuestionResponsesWithLessLikes(@Param("likeCount") int likeCount,
+                                                                  @Param("questionId") long questionId,
+                                                                  @Param("currentMemberId") long currentMemberId, @Param("isAdmin") boolean isAdmin,
+                                                                  Pageable pageable);
+
+    @Query(QUESTION_RESPONSE_SELECT + "WHERE q.questionStatus != 'QUESTION_DEACTIVED' AND "
+            + "(q.likeCount > :likeCount OR (q.likeCount = :likeCount AND q.questionId > :questionId))")
+    List<QuestionDto.Response> findQuestionResponsesWithMoreLikes(@Param("likeCount") int likeCount,
+                                                                  @Param("questionId") long questionId,
+                                                                  @Param("currentMemberId") long currentMemberId, @Param("isAdmin") boolean isAdmin,
+                                                                  Pageable pageable);
+
+    @Query(QUESTION_RESPONSE_SELECT + "WHERE q.questionStatus != 'QUESTION_DEACTIVED' AND "
+            + "(q.viewCount < :viewCount OR (q.viewCount = :viewCount AND q.questionId < :questionId))")
+    List<QuestionDto.Response> findQuestionResponsesWithLessViews(@Param("viewCount") int viewCount,
+                                                                  @Param("questionId") long questionId,
+                                                                  @Param("currentMemberId") long currentMemberId, @Param("isAdmin") boolean isAdmin,
+                                                                  Pageable pageable);
+
+    @Query(QUESTION_RESPONSE_SELECT + "WHERE q.questionStatus != 'QUESTION_DEACTIVED' AND "
+            + "(q.viewCount > :viewCount OR (q.viewCount = :viewCount AND q.questionId > :questionId))")
+    List<QuestionDto.Response> findQuestionResponsesWithMoreViews(@Param("viewCount") int viewCount,
+                                                                  @Param("questionId") long questionId,
+                                                                  @Param("currentMemberId") long currentMemberId, @Param("isAdmin") boolean isAdmin,
+                                                                  Pageable pageable);
+
+    // HOT 목록을 다시 만들 때의 후보 (삭제 / 비활성화 제외, created_at 인덱스 범위 조회)
+    @Query(QUESTION_RESPONSE_SELECT + "WHERE q.createdAt >= :createdAt "
+            + "AND q.questionStatus NOT IN ('QUESTION_DELETED', 'QUESTION_DEACTIVED')")
+    List<QuestionDto.Response> findHotCandidates(@Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("currentMemberId") long currentMemberId, @Param("isAdmin") boolean isAdmin,
+                                                 Pageable pageable);
+
+    @Query(QUESTION_RESPONSE_SELECT + "WHERE q.questionId = :questionId")
+    Optional<QuestionDto.Response> findQuestionResponseById(@Param("questionId") long questionId,
+                                                            @Param("currentMemberId") long currentMemberId, @Param("isAdmin") boolean isAdmin);
+
+    // 조회 전용 (Hibernate 가 스냅샷을 만들지 않고 dirty checking 대상에서 제외)
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true"))
     @Query("SELECT q FROM Question q WHERE q.id = :questionId AND "
     + "(q.visibility = 'QUESTION_PUBLIC' OR (q.visibility = 'QUESTION_SECRET' AND "
      + "(q.member.memberId = :memberId OR :isAdmin = true)))")
     Optional<Question> findQuestionByIdAndAccess(@Param("questionId") Long questionId,
                                                  @Param("memberId") Long memberId,
                                                  @Param("isAdmin") boolean isAdmin);
+
+    // 조회수 버퍼 반영, 같은 증가분의 질문을 한 번에 UPDATE
+    @Transactional
+    @Modifying
+    @Query("UPDATE Question q SET q.viewCount = q.viewCount + :delta WHERE q.questionId IN :questionIds")
+    int addViewCount(@Param("delta") int delta, @Param("questionIds") Collection<Long> questionIds);
+
+    // 탈퇴한 회원의 질문을 UPDATE 한 번으로 비활성화, 바뀐 행 수 = 목록에서 빠지는 질문 수
+    // (member_id, created_at) 인덱스로 대상 행만 찾음 (엔티티 로딩 / dirty checking X)
+    @Modifying
+    @Query("UPDATE Question q SET q.questionStatus = :deactivated, q.modifiedAt = CURRENT_TIMESTAMP "
+            + "WHERE q.member.memberId = :memberId AND q.questionStatus <> :deactivated")
+    int deactivateQuestionsByMemberId(@Param("memberId") long memberId,
+                                      @Param("deactivated") Question.QuestionStatus deactivated);
+
+    // 좋아요 수는 읽어서 쓰지 않고 DB 에서 상대값으로 갱신 (동시 좋아요 유실 방지)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Question q SET q.likeCount = q.likeCount + :delta WHERE q.questionId = :questionId")
+    int addLikeCount(@Param("questionId") long questionId, @Param("delta") int delta);
+
+    // 순 조회자 추정값으로 조회수 갱신, 현재 값보다 클 때만 (메모리 sketch 가 재시작으로 초기화되어도 줄지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Question q SET q.viewCount = :viewCount WHERE q.questionId = :questionId AND q.viewCount < :viewCount")
+    int raiseViewCount(@Param("questionId") long questionId, @Param("viewCount") int viewCount);
 }
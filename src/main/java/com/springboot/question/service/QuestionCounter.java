@@ -0,0 +1,56 @@
+package com.springboot.question.service;
+
+import com.springboot.question.repository.QuestionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 목록에 보이는 질문 수 (비활성화 제외, 목록 쿼리와 같은 조건)
+// 요청마다 count 쿼리를 실행하지 않도록 등록 / 비활성화 시 증감하고, 주기적으로 실제 개수로 보정
+// 삭제(QUESTION_DELETED) 질문은 목록 쿼리에 포함되므로 개수 변화 없음
+@Slf4j
+@Component
+public class QuestionCounter {
+    private final QuestionRepository questionRepository;
+    private final AtomicLong listedQuestions = new AtomicLong();
+
+    public QuestionCounter(QuestionRepository questionRepository) {
+        this.questionRepository = questionRepository;
+    }
+
+    public long get() {
+        return listedQuestions.get();
+    }
+
+    // 트랜잭션 안이면 커밋 후에 반영 (롤백된 변경은 반영 X)
+    public void add(long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    listedQuestions.addAndGet(delta);
+                }
+            });
+        } else {
+            listedQuestions.addAndGet(delta);
+        }
+    }
+
+    // 시작 시 한 번, 이후 reconcile-millis 마다 실제 개수로 보정
+    // count 와 set 사이에 들어온 증감은 다음 보정에서 맞춰짐
+    @Scheduled(fixedDelayString = "${question.count.reconcile-millis:60000}")
+    public void reconcile() {
+        long actual = questionRepository.countQuestionsWithoutDeactivated();
+        long previous = listedQuestions.getAndSet(actual);
+        if (previous != actual) {
+            log.info("# question count reconciled : {} -> {}", previous, actual);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.springboot.question.service;
+
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import com.springboot.question.dto.QuestionDto;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 커서 페이지네이션 위치 (마지막으로 받은 질문의 정렬 값 + questionId)
+// 클라이언트에는 "정렬조건:정렬값:questionId" 를 base64url 로 인코딩한 문자열로 전달
+@Getter
+public class QuestionCursor {
+    private static final String DELIMITER = ":";
+
+    private final QuestionSortType sortType;
+    private final String sortValue;
+    private final long questionId;
+
+    private QuestionCursor(QuestionSortType sortType, String sortValue, long questionId) {
+        this.sortType = sortType;
+        this.sortValue = sortValue;
+        this.questionId = questionId;
+    }
+
+    public static QuestionCursor of(QuestionSortType sortType, QuestionDto.Response question) {
+        String sortValue;
+        switch (sortType) {
+            case NEWEST:
+            case OLDEST:
+                sortValue = question.getCreatedAt().toString();
+                break;
+            case MOSTLIKES:
+            case LEASTLIKES:
+                sortValue = String.valueOf(question.getLikeCount());
+                break;
+            default:
+                sortValue = String.valueOf(question.getViewCount());
+        }
+        return new QuestionCursor(sortType, sortValue, question.getQuestionId());
+    }
+
+    // 다른 정렬 조건으로 만든 커서나 변조된 커서는 거절
+    public static QuestionCursor decode(String cursor, QuestionSortType sortType) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // LocalDateTime 값에도 ':' 가 있으므로 첫 번째와 마지막 구분자로 나눔
+            int first = decoded.indexOf(DELIMITER);
+            int last = decoded.lastIndexOf(DELIMITER);
+            QuestionSortType cursorSortType = QuestionSortType.valueOf(decoded.substring(0, first));
+            if (cursorSortType != sortType || first == last) {
+                throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+            }
+            QuestionCursor questionCursor = new QuestionCursor(cursorSortType,
+                    decoded.substring(first + 1, last), Long.parseLong(decoded.substring(last + 1)));
+            // 값 형식 확인
+            if (sortType == QuestionSortType.NEWEST || sortType == QuestionSortType.OLDEST) {
+                questionCursor.getCreatedAt();
+            } else {
+                questionCursor.getCount();
+            }
+            return questionCursor;
+        } catch (RuntimeException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = sortType.name() + DELIMITER + sortValue + DELIMITER + questionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return LocalDateTime.parse(sortValue);
+    }
+
+    public int getCount() {
+        return Integer.parseInt(sortValue);
+    }
+}
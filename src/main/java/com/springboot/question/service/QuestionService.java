@@ -2,18 +2,26 @@ package com.springboot.question.service;
 
 import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
-import com.springboot.member.entity.Member;
 import com.springboot.member.service.MemberService;
+import com.springboot.question.cache.QuestionPageCache;
+import com.springboot.question.dto.QuestionDto;
 import com.springboot.question.entity.Question;
+import com.springboot.question.ranking.HotQuestionRanking;
 import com.springboot.question.repository.QuestionRepository;
+import com.springboot.question.viewer.UniqueViewerCounter;
 import com.springboot.utils.AuthorizationUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -21,11 +29,23 @@ public class QuestionService {
     private final QuestionRepository questionRepository;
     private final MemberService memberService;
     private final StorageService storageService;
+    private final QuestionCounter questionCounter;
+    private final QuestionPageCache questionPageCache;
+    private final ViewCountBuffer viewCountBuffer;
+    private final UniqueViewerCounter uniqueViewerCounter;
+    private final HotQuestionRanking hotQuestionRanking;
 
-    public QuestionService(QuestionRepository questionRepository, MemberService memberService, StorageService storageService) {
+    public QuestionService(QuestionRepository questionRepository, MemberService memberService, StorageService storageService,
+                           QuestionCounter questionCounter, QuestionPageCache questionPageCache, ViewCountBuffer viewCountBuffer,
+                           UniqueViewerCounter uniqueViewerCounter, HotQuestionRanking hotQuestionRanking) {
         this.questionRepository = questionRepository;
         this.memberService = memberService;
         this.storageService = storageService;
+        this.questionCounter = questionCounter;
+        this.questionPageCache = questionPageCache;
+        this.viewCountBuffer = viewCountBuffer;
+        this.uniqueViewerCounter = uniqueViewerCounter;
+        this.hotQuestionRanking = hotQuestionRanking;
     }
 
     public Question createQuestion(Question question, MultipartFile questionImage){
@@ -38,7 +58,11 @@ public class QuestionService {
         } else {
             question.setQuestionImage("noImage.png");
         }
-        return questionRepository.save(question);
+        Question savedQuestion = questionRepository.save(question);
+        questionCounter.add(1);
+        questionPageCache.evictAll();
+        hotQuestionRanking.recordCreated(savedQuestion.getQuestionId());
+        return savedQuestion;
     }
 
     public Question updateQuestion(Question question, long memberId){
@@ -54,31 +78,125 @@ public class QuestionService {
                 .ifPresent(content -> findQuestion.setContent(content));
         Optional.ofNullable(question.getVisibility())
                 .ifPresent(visibility -> findQuestion.setVisibility(visibility));
-        return questionRepository.save(findQuestion);
+        Question savedQuestion = questionRepository.save(findQuestion);
+        questionPageCache.evictQuestion(savedQuestion.getQuestionId());
+        hotQuestionRanking.refresh(savedQuestion.getQuestionId());
+        return savedQuestion;
     }
 
-    public Page<Question> findQuestions(int page, int size, String sortType, Member currentMember){
+    // 목록 조회는 응답 DTO projection 한 번으로 처리 (작성자, 답변 N+1 없음)
+    // 비밀글 제목은 쿼리의 CASE 에서 토큰의 회원 id / 관리자 여부로 가림
+    // mine 이면 내가 쓴 질문만 조회
+    // 앞쪽 페이지는 캐시 사용, 캐시 적중 시 DB 연결을 잡지 않도록 서비스에는 트랜잭션 없음
+    // (DB 조회는 리포지토리 메서드에 선언한 readOnly 트랜잭션에서 목록 + count 함께 실행)
+    public Page<QuestionDto.Response> findQuestions(int page, int size, String sortType, boolean mine,
+                                                    long currentMemberId, boolean isAdmin){
         // 페이지 번호 검증
         if(page < 1){
             throw new IllegalArgumentException("페이지의 번호는 1 이상이어야 합니다.");
         }
         // 정렬 조건 설정
-        if(sortType == null || sortType.isBlank()){
-            sortType = "newest";
+        QuestionSortType questionSortType = getSortType(sortType, mine);
+        if(questionSortType == QuestionSortType.HOT){
+            // 메모리 순위에서 바로 응답 (DB 조회 X)
+            return hotQuestionRanking.findPage(page, size)
+                    .map(response -> response.hideSecretTitle(currentMemberId, isAdmin));
         }
-        Sort sort = getSortType(sortType);
-        Pageable pageable = PageRequest.of(page -1, size, sort);
-        // 비활성화 글 제외하고 조회
-        Page<Question> questionPage = questionRepository.findAllQuestionsWithoutDeactivated(pageable);
-        questionPage.forEach(question -> question.setTitle(question.getDisplayTitle(currentMember)));
-        return questionPage;
+        Pageable pageable = PageRequest.of(page -1, size, questionSortType.getSort());
+        if(mine){
+            return withUniqueViewers(questionRepository.findMyQuestionResponses(currentMemberId, isAdmin, pageable));
+        }
+        if(!questionPageCache.isCacheable(page, size)){
+            // 비활성화 글 제외하고 조회
+            return withUniqueViewers(
+                    questionRepository.findQuestionResponsesWithoutDeactivated(currentMemberId, isAdmin, pageable));
+        }
+        Page<QuestionDto.Response> questionPage = questionPageCache.get(questionSortType, page, size);
+        if(questionPage == null){
+            long generation = questionPageCache.generation();
+            // 캐시에는 가리지 않은 제목 저장 (관리자 조회와 같은 결과)
+            questionPage = withUniqueViewers(questionRepository.findQuestionResponsesWithoutDeactivated(0L, true, pageable));
+            questionPageCache.put(questionSortType, page, size, questionPage, generation);
+        }
+        // 보는 사람마다 캐시 밖에서 비밀글 제목 가림
+        return questionPage.map(response -> response.hideSecretTitle(currentMemberId, isAdmin));
+    }
+
+    // count 쿼리 없는 조회, 전체 개수는 countQuestions() 사용
+    // 조회 메서드는 readOnly 트랜잭션 (flush 생략, 조회한 엔티티 스냅샷 / dirty checking 없음)
+    @Transactional(readOnly = true)
+    public Slice<QuestionDto.Response> findQuestionSlice(int page, int size, String sortType, boolean mine,
+                                                         long currentMemberId, boolean isAdmin){
+        if(page < 1){
+            throw new IllegalArgumentException("페이지의 번호는 1 이상이어야 합니다.");
+        }
+        QuestionSortType questionSortType = getSortType(sortType, mine);
+        if(questionSortType == QuestionSortType.HOT){
+            return hotQuestionRanking.findSlice(page, size)
+                    .map(response -> response.hideSecretTitle(currentMemberId, isAdmin));
+        }
+        Pageable pageable = PageRequest.of(page -1, size, questionSortType.getSort());
+        return withUniqueViewers(mine
+                ? questionRepository.findMyQuestionResponseSlice(currentMemberId, isAdmin, pageable)
+                : questionRepository.findQuestionResponseSliceWithoutDeactivated(currentMemberId, isAdmin, pageable));
+    }
+
+    // 목록에 보이는 질문 수 (전체는 주기적으로 보정되는 근사값, 내 질문은 (member_id, created_at) 인덱스로 count)
+    @Transactional(readOnly = true)
+    public long countQuestions(boolean mine, long currentMemberId){
+        return mine ? questionRepository.countQuestionsByMemberWithoutDeactivated(currentMemberId) : questionCounter.get();
     }
 
+    // 커서 기반 조회, cursor 가 없으면 첫 페이지
+    // size + 1 개를 조회해서 다음 페이지 존재 여부 판단 (count 쿼리 없음)
+    @Transactional(readOnly = true)
+    public Slice<QuestionDto.Response> findQuestionsByCursor(String cursor, int size, String sortType,
+                                                             long currentMemberId, boolean isAdmin){
+        QuestionSortType questionSortType = QuestionSortType.from(sortType);
+        if(questionSortType == QuestionSortType.HOT){
+            // 점수가 계속 바뀌므로 커서 위치가 고정되지 않음
+            throw new IllegalArgumentException("HOT 정렬은 커서 조회를 지원하지 않습니다.");
+        }
+        Pageable pageable = PageRequest.of(0, size + 1, questionSortType.getSort());
+        List<QuestionDto.Response> responses = cursor == null || cursor.isBlank()
+                ? questionRepository.findFirstQuestionResponses(currentMemberId, isAdmin, pageable)
+                : findQuestionsAfter(QuestionCursor.decode(cursor, questionSortType), currentMemberId, isAdmin, pageable);
+
+        boolean hasNext = responses.size() > size;
+        List<QuestionDto.Response> content = hasNext ? responses.subList(0, size) : responses;
+        return new SliceImpl<>(withUniqueViewers(content), PageRequest.of(0, size, questionSortType.getSort()), hasNext);
+    }
+
+    // 다음 페이지 요청에 사용할 커서, 마지막 페이지면 null
+    public String createNextCursor(Slice<QuestionDto.Response> questionSlice, String sortType){
+        if(!questionSlice.hasNext()){
+            return null;
+        }
+        List<QuestionDto.Response> content = questionSlice.getContent();
+        return QuestionCursor.of(QuestionSortType.from(sortType), content.get(content.size() - 1)).encode();
+    }
+
+    @Transactional(readOnly = true)
     public Question findQuestion(Long questionId, Long memberId, boolean isAdmin){
         // Authentication 통해서 memberId와 관리자인지 받아와서 권한 없는 글에 접근 시 예외처리
         // public인 경우 전체 접근 가능, 비밀글인경우 작성자와 관리자만 접근 가능(repo 쿼리)
-        return questionRepository.findQuestionByIdAndAccess(questionId, memberId, isAdmin)
+        Question question = questionRepository.findQuestionByIdAndAccess(questionId, memberId, isAdmin)
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.QUESTION_NOT_FOUND));
+        // 조회수는 버퍼에만 기록, DB 반영은 ViewCountBuffer.flush
+        viewCountBuffer.record(questionId);
+        uniqueViewerCounter.record(questionId, memberId);
+        hotQuestionRanking.recordView(questionId);
+        return question;
+    }
+
+    // 질문 상세의 순 조회자 추정값
+    public long countUniqueViewers(long questionId){
+        return uniqueViewerCounter.estimate(questionId);
+    }
+
+    // 좋아요 토글의 좋아요 수 반영 (호출한 쪽 트랜잭션에 참여)
+    public void addLikeCount(long questionId, int delta){
+        questionRepository.addLikeCount(questionId, delta);
     }
 
     public void deleteQuestion(Long questionId, long memberId){
@@ -92,6 +210,8 @@ public class QuestionService {
         findQuestion.setQuestionStatus(Question.QuestionStatus.QUESTION_DELETED);
         // 저장
         questionRepository.save(findQuestion);
+        questionPageCache.evictQuestion(questionId);
+        hotQuestionRanking.remove(questionId);
 
     }
 
@@ -120,23 +240,41 @@ public class QuestionService {
         findVerifiedQuestion(questionId).setAnswer(null);
     }
 
-    // 정렬 조건 설정
-    private Sort getSortType(String sortType){
-        switch (sortType.toUpperCase()){
-            case "NEWEST":
-                return Sort.by(Sort.Direction.DESC, "createdAt");
-            case "OLDEST":
-                return Sort.by(Sort.Direction.ASC, "createdAt");
-            case "MOSTLIKES":
-                return Sort.by(Sort.Direction.DESC, "likeCount");
-            case "LEASTLIKES":
-                return Sort.by(Sort.Direction.ASC, "likeCount");
-            case "MOSTVIEWS":
-                return Sort.by(Sort.Direction.DESC, "viewCount");
-            case "LEASTVIEWS":
-                return Sort.by(Sort.Direction.ASC, "viewCount");
+    // 목록의 질문 id 로 순 조회자 추정값을 한 번에 조회해서 채움
+    private <T extends Iterable<QuestionDto.Response>> T withUniqueViewers(T responses){
+        List<Long> questionIds = new ArrayList<>();
+        responses.forEach(response -> questionIds.add(response.getQuestionId()));
+        Map<Long, Long> estimates = uniqueViewerCounter.estimates(questionIds);
+        responses.forEach(response -> response.setUniqueViewers(estimates.getOrDefault(response.getQuestionId(), 0L)));
+        return responses;
+    }
+
+    // 정렬 조건 설정 (같은 값이면 questionId 순)
+    // HOT 순위는 전체 질문만 관리 (내 질문은 DB 정렬만 가능)
+    private QuestionSortType getSortType(String sortType, boolean mine){
+        QuestionSortType questionSortType = QuestionSortType.from(sortType);
+        if(mine && questionSortType == QuestionSortType.HOT){
+            throw new IllegalArgumentException("내 질문 조회는 HOT 정렬을 지원하지 않습니다.");
+        }
+        return questionSortType;
+    }
+
+    // 정렬 조건별 커서 이후 조회
+    private List<QuestionDto.Response> findQuestionsAfter(QuestionCursor cursor, long currentMemberId, boolean isAdmin,
+                                                          Pageable pageable){
+        switch (cursor.getSortType()){
+            case NEWEST:
+                return questionRepository.findQuestionResponsesCreatedBefore(cursor.getCreatedAt(), cursor.getQuestionId(), currentMemberId, isAdmin, pageable);
+            case OLDEST:
+                return questionRepository.findQuestionResponsesCreatedAfter(cursor.getCreatedAt(), cursor.getQuestionId(), currentMemberId, isAdmin, pageable);
+            case MOSTLIKES:
+                return questionRepository.findQuestionResponsesWithLessLikes(cursor.getCount(), cursor.getQuestionId(), currentMemberId, isAdmin, pageable);
+            case LEASTLIKES:
+                return questionRepository.findQuestionResponsesWithMoreLikes(cursor.getCount(), cursor.getQuestionId(), currentMemberId, isAdmin, pageable);
+            case MOSTVIEWS:
+                return questionRepository.findQuestionResponsesWithLessViews(cursor.getCount(), cursor.getQuestionId(), currentMemberId, isAdmin, pageable);
             default:
-                throw new IllegalArgumentException("올바른 정렬 조건을 입력해 주세요: " + sortType);
+                return questionRepository.findQuestionResponsesWithMoreViews(cursor.getCount(), cursor.getQuestionId(), currentMemberId, isAdmin, pageable);
         }
     }
 
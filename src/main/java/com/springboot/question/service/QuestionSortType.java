@@ -0,0 +1,43 @@
+package com.springboot.question.service;
+
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+// 질문 목록 정렬 조건, 같은 값이면 questionId 로 순서 고정 (커서 페이지네이션의 기준)
+// HOT 은 DB 정렬이 아닌 메모리 순위 (HotQuestionRanking), 커서 / 내 질문 조회 X
+// HOT 의 DB 정렬 값은 최신순 (순위 밖에서 DB 를 조회하게 되더라도 created_at 인덱스 사용)
+public enum QuestionSortType {
+    NEWEST("createdAt", Sort.Direction.DESC),
+    OLDEST("createdAt", Sort.Direction.ASC),
+    MOSTLIKES("likeCount", Sort.Direction.DESC),
+    LEASTLIKES("likeCount", Sort.Direction.ASC),
+    MOSTVIEWS("viewCount", Sort.Direction.DESC),
+    LEASTVIEWS("viewCount", Sort.Direction.ASC),
+    HOT("createdAt", Sort.Direction.DESC);
+
+    @Getter
+    private final String property;
+
+    @Getter
+    private final Sort.Direction direction;
+
+    QuestionSortType(String property, Sort.Direction direction) {
+        this.property = property;
+        this.direction = direction;
+    }
+
+    public Sort getSort() {
+        return Sort.by(direction, property).and(Sort.by(direction, "questionId"));
+    }
+
+    public static QuestionSortType from(String sortType) {
+        if (sortType == null || sortType.isBlank()) {
+            return NEWEST;
+        }
+        try {
+            return valueOf(sortType.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("올바른 정렬 조건을 입력해 주세요: " + sortType);
+        }
+    }
+}
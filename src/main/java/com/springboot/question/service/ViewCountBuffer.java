@@ -0,0 +1,201 @@
+package com.springboot.question.service;
+
+import com.springboot.question.cache.QuestionPageCache;
+import com.springboot.question.repository.QuestionRepository;
+import com.springboot.question.viewer.UniqueViewerCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+// 질문 조회수 write-behind 버퍼
+// 조회 요청은 질문별 LongAdder 만 증가 (락, DB 쓰기 없음, 인기 질문도 스레드마다 다른 cell 에 기록)
+// flush-millis 마다 쌓인 증가분을 같은 증가분끼리 묶어 UPDATE ... WHERE question_id IN (...) 로 반영, 종료 시에도 반영
+// question.unique-viewers.feed-view-count 가 true 면 증가분 대신 순 조회자 추정값을 조회수로 반영
+// 오래 조회되지 않은 Counter 는 retired 표시 후 제거, 제거 직전에 들어온 조회수는 다음 flush 에서 마저 반영
+@Slf4j
+@Component
+public class ViewCountBuffer {
+    // IN 절 하나에 넣는 최대 질문 수
+    private static final int BATCH_SIZE = 500;
+    // 이 횟수만큼 연속으로 증가분이 없으면 버퍼에서 제거
+    private static final int IDLE_FLUSHES_BEFORE_REMOVE = 3;
+
+    private final QuestionRepository questionRepository;
+    private final QuestionPageCache questionPageCache;
+    private final UniqueViewerCounter uniqueViewerCounter;
+    private final boolean feedUniqueViewers;
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+    // 맵에서 제거된 Counter, 남은 증가분이 0 이 될 때까지 반영
+    private final Queue<Counter> retired = new ConcurrentLinkedQueue<>();
+
+    public ViewCountBuffer(QuestionRepository questionRepository, QuestionPageCache questionPageCache,
+                           UniqueViewerCounter uniqueViewerCounter,
+                           @Value("${question.unique-viewers.feed-view-count:false}") boolean feedUniqueViewers) {
+        this.questionRepository = questionRepository;
+        this.questionPageCache = questionPageCache;
+        this.uniqueViewerCounter = uniqueViewerCounter;
+        this.feedUniqueViewers = feedUniqueViewers;
+    }
+
+    // 증가 후 retired 를 확인, 제거된 Counter 에 기록했으면 되돌리고 새 Counter 에 다시 기록
+    // retired 를 보지 못한 증가는 flush 가 retired 를 표시하기 전에 일어났으므로 제거 후 flush 에서 반영됨 (유실, 중복 없음)
+    public void record(long questionId) {
+        while (true) {
+            Counter counter = counters.get(questionId);
+            if (counter == null) {
+                counter = counters.computeIfAbsent(questionId, Counter::new);
+            }
+            counter.views.increment();
+            if (!counter.retired) {
+                return;
+            }
+            counter.views.decrement();
+            counters.remove(questionId, counter);
+        }
+    }
+
+    // LongAdder 는 초기화하지 않고 누적값과 반영한 값의 차이만 기록 (초기화 중 들어온 조회수 유실 방지)
+    // 실패한 증가분은 flushed 에 더하지 않으므로 다음 flush 에서 다시 시도
+    @Scheduled(fixedDelayString = "${question.view-count.flush-millis:1000}")
+    public synchronized void flush() {
+        // 행 잠금 순서를 고정하기 위해 id 순 정렬
+        Map<Long, Integer> deltas = new TreeMap<>();
+        // 질문별로 이번에 반영하는 Counter (맵의 Counter + 제거된 Counter)
+        Map<Long, List<Counter>> sources = new HashMap<>();
+        // 제거된 Counter 는 되돌리는 중이던 증가를 반영했을 수 있으므로 음수 증가분도 반영, 0 이 되면 버림
+        retired.removeIf(counter -> {
+            int delta = counter.delta();
+            if (delta == 0) {
+                return true;
+            }
+            collect(counter, delta, deltas, sources);
+            return false;
+        });
+        counters.forEach((questionId, counter) -> {
+            int delta = counter.delta();
+            if (delta > 0) {
+                counter.idleFlushes = 0;
+                collect(counter, delta, deltas, sources);
+            } else if (++counter.idleFlushes >= IDLE_FLUSHES_BEFORE_REMOVE) {
+                counter.retired = true;
+                counters.remove(questionId, counter);
+                retired.add(counter);
+            }
+        });
+        boolean flushed = feedUniqueViewers ? feedUniqueViewers(deltas, sources) : addDeltas(deltas, sources);
+        // 조회수 순 정렬 페이지만 제거, 다른 정렬 페이지의 조회수는 캐시 ttl 동안 이전 값
+        if (flushed) {
+            questionPageCache.evictSorts(QuestionSortType.MOSTVIEWS, QuestionSortType.LEASTVIEWS);
+        }
+    }
+
+    private static void collect(Counter counter, int delta, Map<Long, Integer> deltas, Map<Long, List<Counter>> sources) {
+        counter.flushing = delta;
+        deltas.merge(counter.questionId, delta, Integer::sum);
+        sources.computeIfAbsent(counter.questionId, key -> new ArrayList<>(1)).add(counter);
+    }
+
+    // 반영에 성공한 질문의 Counter 들만 반영한 값 갱신
+    private static void markFlushed(Map<Long, List<Counter>> sources, long questionId) {
+        sources.get(questionId).forEach(counter -> counter.flushed += counter.flushing);
+    }
+
+    private boolean addDeltas(Map<Long, Integer> deltas, Map<Long, List<Counter>> sources) {
+        // 증가분별 질문 id
+        Map<Integer, List<Long>> questionIdsByDelta = new TreeMap<>();
+        deltas.forEach((questionId, delta) -> {
+            if (delta == 0) {
+                markFlushed(sources, questionId);
+                return;
+            }
+            questionIdsByDelta.computeIfAbsent(delta, key -> new ArrayList<>()).add(questionId);
+        });
+
+        boolean flushed = false;
+        for (Map.Entry<Integer, List<Long>> entry : questionIdsByDelta.entrySet()) {
+            List<Long> questionIds = entry.getValue();
+            for (int from = 0; from < questionIds.size(); from += BATCH_SIZE) {
+                List<Long> batch = questionIds.subList(from, Math.min(from + BATCH_SIZE, questionIds.size()));
+                try {
+                    questionRepository.addViewCount(entry.getKey(), batch);
+                    batch.forEach(questionId -> markFlushed(sources, questionId));
+                    flushed = true;
+                } catch (Exception e) {
+                    log.warn("# view count flush failed, retry next time : {}", e.getMessage());
+                }
+            }
+        }
+        return flushed;
+    }
+
+    // 버퍼에 남아 있는 질문은 증가분이 없어도 추정값이 바뀌었으면 반영
+    // (redis 저장소는 PFADD 가 flush 주기만큼 늦으므로 마지막 조회 이후 몇 번 더 확인)
+    private boolean feedUniqueViewers(Map<Long, Integer> deltas, Map<Long, List<Counter>> sources) {
+        // 조회 건수는 추정값으로 대체되었으므로 반영한 것으로 처리
+        deltas.keySet().forEach(questionId -> markFlushed(sources, questionId));
+        if (counters.isEmpty()) {
+            return false;
+        }
+        Map<Long, Long> estimates = uniqueViewerCounter.estimates(new ArrayList<>(counters.keySet()));
+        boolean flushed = false;
+        for (Map.Entry<Long, Long> entry : estimates.entrySet()) {
+            Counter counter = counters.get(entry.getKey());
+            if (counter == null || counter.fedViewers == entry.getValue()) {
+                continue;
+            }
+            try {
+                flushed |= questionRepository.raiseViewCount(entry.getKey(),
+                        (int) Math.min(entry.getValue(), Integer.MAX_VALUE)) > 0;
+                counter.fedViewers = entry.getValue();
+            } catch (Exception e) {
+                log.warn("# unique viewer feed failed, retry next time : {}", e.getMessage());
+            }
+        }
+        return flushed;
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    // flushed, idleFlushes, flushing 은 flush 스레드에서만 변경
+    private static class Counter {
+        private final long questionId;
+        private final LongAdder views = new LongAdder();
+        // flush 가 맵에서 제거하기 전에 표시, 이후 증가는 되돌리고 새 Counter 에 기록
+        private volatile boolean retired;
+        private volatile long flushed;
+        private int idleFlushes;
+        // 이번 flush 에서 반영하는 증가분
+        private int flushing;
+        // 마지막으로 반영한 순 조회자 추정값 (feed-view-count)
+        private long fedViewers;
+
+        private Counter(long questionId) {
+            this.questionId = questionId;
+        }
+
+        // view_count 는 int, 한 번에 반영하지 못한 나머지는 다음 flush 에서 반영
+        private int delta() {
+            long delta = views.sum() - flushed;
+            return (int) Math.max(Math.min(delta, Integer.MAX_VALUE), Integer.MIN_VALUE);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.springboot.question.viewer;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// HyperLogLog 카디널리티 추정
+// 레지스터 2^precision 개 (1 byte), 추가한 값의 개수와 상관없이 크기 고정
+// precision 12 : 4KB, 표준 오차 약 1.04 / sqrt(4096) = 1.6%
+// 레지스터는 커지기만 하므로 CAS 로 갱신 (락 없음, 대부분의 추가는 레지스터를 바꾸지 않아 읽기만 함)
+public class HyperLogLog {
+    public static final int DEFAULT_PRECISION = 12;
+    private static final VarHandle REGISTERS = MethodHandles.arrayElementVarHandle(byte[].class);
+
+    private final int precision;
+    private final byte[] registers;
+    private final double alpha;
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("precision must be between 4 and 16 : " + precision);
+        }
+        int registerCount = 1 << precision;
+        this.precision = precision;
+        this.registers = new byte[registerCount];
+        this.alpha = 0.7213 / (1 + 1.079 / registerCount);
+    }
+
+    // 레지스터가 바뀌었으면 true (새 값이 아니어도 false 일 수 있음, 중복 판정용 X)
+    public boolean offer(long value) {
+        long hash = hash(value);
+        int index = (int) (hash >>> (64 - precision));
+        // 남은 비트의 앞쪽 0 개수 + 1, 마지막 비트를 세워서 최대값 제한
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1);
+        byte current;
+        do {
+            current = (byte) REGISTERS.getVolatile(registers, index);
+            if (current >= rank) {
+                return false;
+            }
+        } while (!REGISTERS.compareAndSet(registers, index, current, rank));
+        return true;
+    }
+
+    public long estimate() {
+        int registerCount = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (int i = 0; i < registerCount; i++) {
+            byte register = (byte) REGISTERS.getVolatile(registers, i);
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = alpha * registerCount * registerCount / sum;
+        // 적은 수에서는 빈 레지스터 비율로 추정 (linear counting)
+        if (estimate <= 2.5 * registerCount && zeros > 0) {
+            estimate = registerCount * Math.log((double) registerCount / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public int sizeInBytes() {
+        return registers.length;
+    }
+
+    // MurmurHash3 fmix64, 연속된 memberId 도 레지스터에 고르게 분산
+    static long hash(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
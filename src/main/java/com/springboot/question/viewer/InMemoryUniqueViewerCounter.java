@@ -0,0 +1,91 @@
+package com.springboot.question.viewer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 노드 메모리에 질문별 HyperLogLog 보관 (조회된 질문당 4KB)
+// 노드마다 따로 집계되므로 단일 노드용, 재시작하면 초기화
+// idle-minutes 동안 조회되지 않은 질문은 제거하고, 그래도 max-questions 를 넘으면 오래 조회되지 않은 질문부터 제거
+// (최대 max-questions * 4KB, 제거된 질문은 다시 조회되면 0 부터 집계)
+// feed-view-count 면 ViewCountBuffer 가 조회 중에 raiseViewCount 로 반영했으므로 제거되어도 DB 조회수는 줄지 않음
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "question.unique-viewers.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryUniqueViewerCounter implements UniqueViewerCounter {
+    // 마지막 조회 시각은 이 간격보다 오래되었을 때만 갱신 (조회마다 쓰지 않음)
+    private static final long TOUCH_INTERVAL_MILLIS = 1000;
+
+    private final Map<Long, Sketch> sketches = new ConcurrentHashMap<>();
+    private final int maxQuestions;
+    private final long idleMillis;
+
+    public InMemoryUniqueViewerCounter(@Value("${question.unique-viewers.max-questions:10000}") int maxQuestions,
+                                       @Value("${question.unique-viewers.idle-minutes:30}") long idleMinutes) {
+        this.maxQuestions = maxQuestions;
+        this.idleMillis = TimeUnit.MINUTES.toMillis(idleMinutes);
+    }
+
+    @Override
+    public void record(long questionId, long memberId) {
+        Sketch sketch = sketches.get(questionId);
+        if (sketch == null) {
+            sketch = sketches.computeIfAbsent(questionId, id -> new Sketch());
+        }
+        sketch.hyperLogLog.offer(memberId);
+        long now = System.currentTimeMillis();
+        if (now - sketch.lastRecordedAt > TOUCH_INTERVAL_MILLIS) {
+            sketch.lastRecordedAt = now;
+        }
+    }
+
+    @Override
+    public long estimate(long questionId) {
+        Sketch sketch = sketches.get(questionId);
+        return sketch == null ? 0 : sketch.hyperLogLog.estimate();
+    }
+
+    @Override
+    public Map<Long, Long> estimates(Collection<Long> questionIds) {
+        Map<Long, Long> estimates = new HashMap<>();
+        questionIds.forEach(questionId -> {
+            Sketch sketch = sketches.get(questionId);
+            if (sketch != null) {
+                estimates.put(questionId, sketch.hyperLogLog.estimate());
+            }
+        });
+        return estimates;
+    }
+
+    @Scheduled(fixedDelayString = "${question.unique-viewers.evict-millis:60000}")
+    public void evict() {
+        long idleBefore = System.currentTimeMillis() - idleMillis;
+        sketches.values().removeIf(sketch -> sketch.lastRecordedAt < idleBefore);
+        int overflow = sketches.size() - maxQuestions;
+        if (overflow > 0) {
+            sketches.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().lastRecordedAt))
+                    .limit(overflow)
+                    .forEach(entry -> sketches.remove(entry.getKey(), entry.getValue()));
+            log.info("# unique viewer sketches over max-questions : {} removed", overflow);
+        }
+    }
+
+    public int size() {
+        return sketches.size();
+    }
+
+    private static final class Sketch {
+        private final HyperLogLog hyperLogLog = new HyperLogLog();
+        private volatile long lastRecordedAt = System.currentTimeMillis();
+    }
+}
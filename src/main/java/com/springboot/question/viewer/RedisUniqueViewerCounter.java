@@ -0,0 +1,114 @@
+package com.springboot.question.viewer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisHyperLogLogCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Redis HyperLogLog (PFADD / PFCOUNT) 로 노드 간 공유, qv:{questionId} 키당 최대 12KB
+// 조회 요청은 로컬 집합에만 기록하고 flush-millis 마다 한 번의 pipeline 으로 PFADD (추정값은 최대 그만큼 늦음)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "question.unique-viewers.store", havingValue = "redis")
+public class RedisUniqueViewerCounter implements UniqueViewerCounter {
+    static final String KEY_PREFIX = "qv:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    // 아직 Redis 에 반영하지 않은 질문별 조회자
+    private final Map<Long, Set<Long>> pending = new ConcurrentHashMap<>();
+
+    public RedisUniqueViewerCounter(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void record(long questionId, long memberId) {
+        Set<Long> viewers = pending.get(questionId);
+        if (viewers == null) {
+            viewers = pending.computeIfAbsent(questionId, id -> ConcurrentHashMap.newKeySet());
+        }
+        viewers.add(memberId);
+    }
+
+    @Override
+    public long estimate(long questionId) {
+        return estimates(List.of(questionId)).getOrDefault(questionId, 0L);
+    }
+
+    @Override
+    public Map<Long, Long> estimates(Collection<Long> questionIds) {
+        Map<Long, Long> estimates = new HashMap<>();
+        if (questionIds.isEmpty()) {
+            return estimates;
+        }
+        List<Long> orderedIds = new ArrayList<>(questionIds);
+        try {
+            List<Object> counts = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                RedisHyperLogLogCommands commands = connection.hyperLogLogCommands();
+                orderedIds.forEach(questionId -> commands.pfCount(key(questionId)));
+                return null;
+            });
+            for (int i = 0; i < orderedIds.size(); i++) {
+                Long count = (Long) counts.get(i);
+                if (count != null && count > 0) {
+                    estimates.put(orderedIds.get(i), count);
+                }
+            }
+        } catch (Exception e) {
+            // Redis 장애 중에는 순 조회자 없이 응답
+            log.warn("# unique viewer count failed : {}", e.getMessage());
+        }
+        return estimates;
+    }
+
+    // 질문별 집합을 떼어낸 뒤 PFADD, 실패하면 다시 합쳐서 다음 flush 에서 재시도
+    // 떼어내는 순간 이전 집합에 추가된 조회자는 유실될 수 있음 (다음 조회 때 다시 기록)
+    @Scheduled(fixedDelayString = "${question.unique-viewers.flush-millis:1000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<Long, Set<Long>> batch = new HashMap<>();
+        for (Long questionId : pending.keySet()) {
+            Set<Long> viewers = pending.remove(questionId);
+            if (viewers != null && !viewers.isEmpty()) {
+                batch.put(questionId, viewers);
+            }
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                RedisHyperLogLogCommands commands = connection.hyperLogLogCommands();
+                batch.forEach((questionId, viewers) -> commands.pfAdd(key(questionId), viewers.stream()
+                        .map(memberId -> String.valueOf(memberId).getBytes(StandardCharsets.UTF_8))
+                        .toArray(byte[][]::new)));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("# unique viewer flush failed, retry next time : {}", e.getMessage());
+            batch.forEach((questionId, viewers) ->
+                    pending.computeIfAbsent(questionId, id -> ConcurrentHashMap.newKeySet()).addAll(viewers));
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+
+    private static byte[] key(long questionId) {
+        return (KEY_PREFIX + questionId).getBytes(StandardCharsets.UTF_8);
+    }
+}
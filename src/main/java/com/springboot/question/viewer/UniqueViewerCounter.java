@@ -0,0 +1,15 @@
+package com.springboot.question.viewer;
+
+import java.util.Collection;
+import java.util.Map;
+
+// 질문별 순 조회자 (memberId 기준) 추정
+// 새로고침, 반복 조회는 한 명으로 집계
+public interface UniqueViewerCounter {
+    void record(long questionId, long memberId);
+
+    long estimate(long questionId);
+
+    // 목록 한 페이지 분량을 한 번에 조회, 기록이 없는 질문은 결과에서 빠짐
+    Map<Long, Long> estimates(Collection<Long> questionIds);
+}
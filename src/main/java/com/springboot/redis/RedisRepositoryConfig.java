@@ -1,15 +1,27 @@
 package com.springboot.redis;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
+
+@Slf4j
 @Configuration
 @EnableRedisRepositories
 public class RedisRepositoryConfig {
@@ -19,6 +31,10 @@ public class RedisRepositoryConfig {
     @Value("${spring.data.redis.port}")
     private int port;
 
+    // 명령 / 연결 타임아웃, Redis 가 느려져도 요청 스레드가 오래 묶이지 않도록 짧게 유지
+    @Value("${spring.data.redis.timeout-millis:200}")
+    private long timeoutMillis;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory(){
         // redis 서버의 호스트와 포트 관리
@@ -27,8 +43,15 @@ public class RedisRepositoryConfig {
         redisStandaloneConfiguration.setHostName(host);
         redisStandaloneConfiguration.setPort(port);
 
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(Duration.ofMillis(timeoutMillis))
+                .clientOptions(ClientOptions.builder()
+                        .socketOptions(SocketOptions.builder().connectTimeout(Duration.ofMillis(timeoutMillis)).build())
+                        .build())
+                .build();
+
         // 구현체
-        LettuceConnectionFactory lettuceConnectionFactory = new LettuceConnectionFactory(redisStandaloneConfiguration);
+        LettuceConnectionFactory lettuceConnectionFactory = new LettuceConnectionFactory(redisStandaloneConfiguration, clientConfiguration);
         return lettuceConnectionFactory;
     }
 
@@ -39,7 +62,36 @@ public class RedisRepositoryConfig {
         redisTemplate.setConnectionFactory(redisConnectionFactory());
         redisTemplate.setKeySerializer(new StringRedisSerializer());
         redisTemplate.setValueSerializer(new StringRedisSerializer());
+        // stream 필드 (좋아요 이벤트) 도 문자열로
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(new StringRedisSerializer());
 
         return redisTemplate;
     }
+
+    // 채널 구독 공용 컨테이너, 각 리스너가 자기 채널을 등록하고 연결 하나로 함께 구독
+    // 컨텍스트 기동 중에는 시작하지 않음 (Redis 에 연결하지 못해도 애플리케이션 기동은 계속)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(){
+        // 2.7 컨테이너는 autoStartup 설정이 없어 직접 끔 (컨텍스트 기동 중 start 실패는 기동 실패로 이어짐)
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer() {
+            @Override
+            public boolean isAutoStartup() {
+                return false;
+            }
+        };
+        container.setConnectionFactory(redisConnectionFactory());
+        return container;
+    }
+
+    // 기동 완료 후 구독 시작, 다른 ApplicationReadyEvent 리스너보다 먼저 실행
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRedisMessageListenerContainer(){
+        try {
+            redisMessageListenerContainer().start();
+        } catch (Exception e) {
+            log.warn("# redis message listener container start failed: {}", e.getMessage());
+        }
+    }
 }
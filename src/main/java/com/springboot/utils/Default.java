@@ -0,0 +1,12 @@
+package com.springboot.utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 생성자가 여러 개인 DTO 에서 MapStruct 가 사용할 생성자 지정 (MapStruct 는 이름이 Default 인 어노테이션을 인식)
+@Target(ElementType.CONSTRUCTOR)
+@Retention(RetentionPolicy.CLASS)
+public @interface Default {
+}
@@ -0,0 +1,12 @@
+-- member_roles (roles @ElementCollection) -> member.role_mask (Member.Role bit 합, USER = 1, ADMIN = 2)
+-- 기존 데이터가 있는 DB 에서 새 버전 배포 전에 한 번 실행 (ddl-auto: create 환경은 필요 없음)
+ALTER TABLE member ADD COLUMN role_mask INT NOT NULL DEFAULT 1;
+
+UPDATE member m
+SET role_mask = (CASE WHEN EXISTS (SELECT 1 FROM member_roles r
+                                   WHERE r.member_member_id = m.member_id AND r.roles = 'USER') THEN 1 ELSE 0 END)
+              + (CASE WHEN EXISTS (SELECT 1 FROM member_roles r
+                                   WHERE r.member_member_id = m.member_id AND r.roles = 'ADMIN') THEN 2 ELSE 0 END)
+WHERE EXISTS (SELECT 1 FROM member_roles r WHERE r.member_member_id = m.member_id);
+
+DROP TABLE member_roles;
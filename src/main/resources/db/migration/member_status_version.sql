@@ -0,0 +1,4 @@
+-- member.status_version (상태가 바뀔 때마다 증가, 이전 버전으로 발급된 토큰 거부용)
+-- 기존 데이터가 있는 DB 에서 새 버전 배포 전에 한 번 실행 (ddl-auto: create 환경은 필요 없음)
+-- 기존 회원은 0 부터 시작 (statusVersion 이 없는 이전 토큰도 0 으로 취급)
+ALTER TABLE member ADD COLUMN status_version INT NOT NULL DEFAULT 0;
@@ -0,0 +1,6 @@
+-- 잠금을 잡은 노드일 때만 만료 시간 연장 (만료 후 다른 노드가 잡은 잠금은 건드리지 않음)
+-- KEYS[1] = 잠금 키, ARGV[1] = 잠금 소유자, ARGV[2] = 만료 시간 (ms)
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return 0
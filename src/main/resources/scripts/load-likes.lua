@@ -0,0 +1,12 @@
+-- 처음 토글되는 질문의 좋아요 회원을 DB 에서 읽어 채움, 다른 요청이 먼저 채웠으면 그대로 둠
+-- KEYS[1] = likes:{questionId}, KEYS[2] = like-count:{questionId}
+-- ARGV = 좋아요 누른 회원 id 목록
+if redis.call('EXISTS', KEYS[2]) == 1 then
+    return 0
+end
+-- unpack 인자 수 제한 때문에 나눠서 추가
+for i = 1, #ARGV, 1000 do
+    redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+end
+redis.call('SET', KEYS[2], #ARGV)
+return 1
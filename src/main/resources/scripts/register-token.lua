@@ -0,0 +1,8 @@
+-- 로그인 시 access / refresh 토큰 식별자 원자적 등록 (이전 로그인 토큰은 덮어씀) + 다른 노드 캐시 무효화 메시지 발행
+-- KEYS[1] = username, KEYS[2] = rt:{username}
+-- ARGV[1] = access token 식별자, ARGV[2] = refresh token 식별자
+-- ARGV[3] = access token TTL(ms), ARGV[4] = refresh token TTL(ms), ARGV[5] = 무효화 메시지 채널
+redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[4])
+redis.call('PUBLISH', ARGV[5], KEYS[1])
+return 1
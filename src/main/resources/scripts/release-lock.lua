@@ -0,0 +1,6 @@
+-- 잠금을 잡은 노드일 때만 해제 (만료 후 다른 노드가 잡은 잠금은 지우지 않음)
+-- KEYS[1] = 잠금 키, ARGV[1] = 잠금 소유자
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
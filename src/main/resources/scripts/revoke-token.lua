@@ -0,0 +1,10 @@
+-- 로그아웃 시 access / refresh 토큰 식별자 원자적 삭제 + 다른 노드 캐시 무효화 메시지 발행
+-- KEYS[1] = username, KEYS[2] = rt:{username}
+-- ARGV[1] = 무효화 메시지 채널
+local deleted = redis.call('DEL', KEYS[1])
+redis.call('DEL', KEYS[2])
+if deleted == 0 then
+    return 0
+end
+redis.call('PUBLISH', ARGV[1], KEYS[1])
+return 1
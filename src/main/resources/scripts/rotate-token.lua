@@ -0,0 +1,12 @@
+-- refresh token 으로 재발급 시 저장된 refresh token 확인 + 두 토큰 원자적 교체 + 다른 노드 캐시 무효화 메시지 발행
+-- 같은 refresh token 으로 동시에 요청해도 한 번만 성공
+-- KEYS[1] = username, KEYS[2] = rt:{username}
+-- ARGV[1] = 제출된 refresh token 식별자, ARGV[2] = 새 access token 식별자, ARGV[3] = 새 refresh token 식별자
+-- ARGV[4] = access token TTL(ms), ARGV[5] = refresh token TTL(ms), ARGV[6] = 무효화 메시지 채널
+if redis.call('GET', KEYS[2]) ~= ARGV[1] then
+    return 0
+end
+redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[4])
+redis.call('SET', KEYS[2], ARGV[3], 'PX', ARGV[5])
+redis.call('PUBLISH', ARGV[6], KEYS[1])
+return 1
@@ -0,0 +1,16 @@
+-- 좋아요 토글 + DB 반영용 이벤트 기록을 한 번의 왕복 안에서 원자적으로 처리
+-- KEYS[1] = likes:{questionId}, KEYS[2] = like-count:{questionId}, KEYS[3] = like-events
+-- ARGV[1] = questionId, ARGV[2] = memberId
+-- 반환 : 1 좋아요, -1 취소, nil 아직 DB 의 좋아요를 불러오지 않은 질문
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    return nil
+end
+local delta = 1
+if redis.call('SREM', KEYS[1], ARGV[2]) == 1 then
+    delta = -1
+else
+    redis.call('SADD', KEYS[1], ARGV[2])
+end
+redis.call('INCRBY', KEYS[2], delta)
+redis.call('XADD', KEYS[3], '*', 'questionId', ARGV[1], 'memberId', ARGV[2], 'delta', delta)
+return delta
@@ -0,0 +1,122 @@
+package com.springboot.auth;
+
+import com.springboot.auth.jwt.JwtTokenizer;
+import com.springboot.member.entity.Member;
+import com.springboot.member.repository.MemberRepository;
+import com.springboot.member.service.MemberService;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// refresh token 재발급 시 역할 / 세션 만료 / 이전 access token 처리
+@SpringBootTest(properties = {"jwt.token-store=memory", "question.page-cache.fan-out=none"})
+@AutoConfigureMockMvc
+class TokenReissueTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private JwtTokenizer jwtTokenizer;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member member;
+
+    @AfterEach
+    void cleanUp() {
+        memberRepository.delete(member);
+    }
+
+    @Test
+    public void reissueRevokesPreviousAccessTokenAndKeepsSessionExpiryTest() throws Exception {
+        // given
+        member = createMember("reissue@gmail.com", "010-4444-0001");
+        MvcResult login = login(member.getEmail());
+        String accessToken = login.getResponse().getHeader("Authorization");
+        String refreshToken = login.getResponse().getHeader("Refresh");
+
+        // when
+        MvcResult reissued = mockMvc.perform(post("/qna/auth/refresh").header("Refresh", refreshToken))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then : 이전 access token 은 거절, 새 refresh token 의 세션 만료 시각은 처음 로그인 그대로
+        String memberUrl = "/qna/members/" + member.getMemberId();
+        mockMvc.perform(get(memberUrl).header("Authorization", accessToken)).andExpect(status().isUnauthorized());
+        mockMvc.perform(get(memberUrl).header("Authorization", reissued.getResponse().getHeader("Authorization")))
+                .andExpect(status().isOk());
+        Claims first = jwtTokenizer.getClaims(refreshToken).getBody();
+        Claims second = jwtTokenizer.getClaims(reissued.getResponse().getHeader("Refresh")).getBody();
+        assertEquals(first.get(JwtTokenizer.SESSION_EXPIRES_AT_CLAIM), second.get(JwtTokenizer.SESSION_EXPIRES_AT_CLAIM));
+        assertFalse(second.getExpiration().after(jwtTokenizer.getSessionExpiration(first)));
+    }
+
+    @Test
+    public void reissuedTokenUsesCurrentRolesTest() throws Exception {
+        // given : 관리자로 로그인한 뒤 일반 회원으로 변경
+        member = createMember("admin@gmail.com", "010-4444-0002");
+        String refreshToken = login(member.getEmail()).getResponse().getHeader("Refresh");
+        jdbcTemplate.update("UPDATE member SET role_mask = ? WHERE member_id = ?",
+                Member.Role.USER.getBit(), member.getMemberId());
+
+        // when
+        MvcResult reissued = mockMvc.perform(post("/qna/auth/refresh").header("Refresh", refreshToken))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        String accessToken = reissued.getResponse().getHeader("Authorization");
+        assertEquals(List.of("USER"), jwtTokenizer.getClaims(accessToken.replace("Bearer ", "")).getBody().get("roles"));
+        mockMvc.perform(post("/qna/questions/like-counts/reconcile").header("Authorization", accessToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    public void usedRefreshTokenAndRefreshTokenAsAccessTokenAreRejectedTest() throws Exception {
+        // given
+        member = createMember("reuse@gmail.com", "010-4444-0003");
+        String refreshToken = login(member.getEmail()).getResponse().getHeader("Refresh");
+        MvcResult reissued = mockMvc.perform(post("/qna/auth/refresh").header("Refresh", refreshToken))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // when / then : 이미 교체된 refresh token 재사용, refresh token 을 access token 으로 사용
+        mockMvc.perform(post("/qna/auth/refresh").header("Refresh", refreshToken))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/qna/members/" + member.getMemberId())
+                        .header("Authorization", "Bearer " + reissued.getResponse().getHeader("Refresh")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private Member createMember(String email, String phone) {
+        Member created = new Member();
+        created.setEmail(email);
+        created.setPassword("1111");
+        created.setName("재발급");
+        created.setPhone(phone);
+        return memberService.createMember(created);
+    }
+
+    private MvcResult login(String email) throws Exception {
+        return mockMvc.perform(post("/qna/auth/login")
+                        .content("{\"username\":\"" + email + "\",\"password\":\"1111\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+}
@@ -0,0 +1,102 @@
+package com.springboot.auth.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 로컬 토큰 캐시 저장 / 무효화 / 제거 검증
+class TokenNearCacheTest {
+    @Test
+    void containsOnlySameAccessToken() {
+        // given
+        TokenNearCache tokenNearCache = new TokenNearCache(5, 100);
+
+        // when
+        tokenNearCache.put("user@gmail.com", "token-1");
+
+        // then : 재발급 전 토큰은 캐시로 통과하지 않음
+        assertTrue(tokenNearCache.contains("user@gmail.com", "token-1"));
+        assertFalse(tokenNearCache.contains("user@gmail.com", "token-0"));
+        assertFalse(tokenNearCache.contains("other@gmail.com", "token-1"));
+    }
+
+    @Test
+    void invalidateRemovesEntry() {
+        // given
+        TokenNearCache tokenNearCache = new TokenNearCache(5, 100);
+        tokenNearCache.put("user@gmail.com", "token-1");
+
+        // when
+        tokenNearCache.invalidate("user@gmail.com");
+
+        // then
+        assertFalse(tokenNearCache.contains("user@gmail.com", "token-1"));
+        assertEquals(0, tokenNearCache.size());
+    }
+
+    @Test
+    void invalidationMessageRemovesEntry() {
+        // given
+        TokenNearCache tokenNearCache = new TokenNearCache(5, 100);
+        TokenInvalidationListener listener = new TokenInvalidationListener(tokenNearCache, null);
+        tokenNearCache.put("user@gmail.com", "token-1");
+        tokenNearCache.put("other@gmail.com", "token-2");
+
+        // when : 다른 노드의 로그아웃 메시지
+        listener.onMessage(new DefaultMessage(TokenNearCache.INVALIDATION_TOPIC.getBytes(StandardCharsets.UTF_8),
+                "user@gmail.com".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertFalse(tokenNearCache.contains("user@gmail.com", "token-1"));
+        assertTrue(tokenNearCache.contains("other@gmail.com", "token-2"));
+    }
+
+    @Test
+    void fullCacheEvictsOldestEntry() {
+        // given
+        TokenNearCache tokenNearCache = new TokenNearCache(5, 3);
+        for (int i = 0; i < 3; i++) {
+            tokenNearCache.put("user" + i, "token");
+        }
+
+        // when
+        tokenNearCache.put("user3", "token");
+
+        // then
+        assertEquals(3, tokenNearCache.size());
+        assertFalse(tokenNearCache.contains("user0", "token"));
+        assertTrue(tokenNearCache.contains("user3", "token"));
+    }
+
+    @Test
+    void repeatedPutsKeepCacheBounded() {
+        // given
+        TokenNearCache tokenNearCache = new TokenNearCache(5, 3);
+
+        // when : 같은 사용자가 계속 재발급
+        for (int i = 0; i < 100; i++) {
+            tokenNearCache.put("user", "token-" + i);
+        }
+
+        // then
+        assertEquals(1, tokenNearCache.size());
+        assertTrue(tokenNearCache.contains("user", "token-99"));
+    }
+
+    @Test
+    void sweepRemovesExpiredEntries() throws InterruptedException {
+        // given
+        TokenNearCache tokenNearCache = new TokenNearCache(1, 100);
+        tokenNearCache.put("user@gmail.com", "token-1");
+
+        // when
+        Thread.sleep(1_100);
+        tokenNearCache.sweep();
+
+        // then
+        assertEquals(0, tokenNearCache.size());
+    }
+}
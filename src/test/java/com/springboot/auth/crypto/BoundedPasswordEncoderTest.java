@@ -0,0 +1,143 @@
+package com.springboot.auth.crypto;
+
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 로그인 폭주 시 BCrypt 동시 실행 수 제한 / 빠른 거절 / 조회 요청 지연 확인
+class BoundedPasswordEncoderTest {
+    private static final Logger log = LoggerFactory.getLogger(BoundedPasswordEncoderTest.class);
+
+    private static final int HASH_THREADS = 2;
+    private static final int QUEUE_CAPACITY = 4;
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @BeforeEach
+    void setUp() {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(10);
+        encodedPassword = bcrypt.encode("1111");
+        passwordEncoder = new BoundedPasswordEncoder(countingEncoder(bcrypt), HASH_THREADS, QUEUE_CAPACITY, 2000,
+                meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    void loginStormIsBoundedAndRejectedFast() throws Exception {
+        int loginThreads = 64;
+        AtomicInteger rejected = new AtomicInteger();
+        List<Long> rejectMillis = Collections.synchronizedList(new ArrayList<>());
+        List<Long> readMicros = Collections.synchronizedList(new ArrayList<>());
+
+        ExecutorService loginPool = Executors.newFixedThreadPool(loginThreads);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<?>> logins = new ArrayList<>();
+        for (int i = 0; i < loginThreads; i++) {
+            logins.add(loginPool.submit(() -> {
+                startGate.await();
+                long start = System.nanoTime();
+                try {
+                    assertTrue(passwordEncoder.matches("1111", encodedPassword));
+                } catch (BusinessLogicException e) {
+                    assertEquals(ExceptionCode.PASSWORD_HASHING_BUSY, e.getExceptionCode());
+                    rejected.incrementAndGet();
+                    rejectMillis.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                }
+                return null;
+            }));
+        }
+        startGate.countDown();
+
+        // 로그인 폭주 중 조회 요청 (가벼운 작업) 지연 측정
+        while (!allDone(logins)) {
+            long start = System.nanoTime();
+            simulateRead();
+            readMicros.add(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        }
+        for (Future<?> login : logins) {
+            login.get();
+        }
+        loginPool.shutdown();
+
+        Collections.sort(readMicros);
+        log.info("# login storm : rejected={}/{}, max concurrent hashes={}, read p50={}us p99={}us",
+                rejected.get(), loginThreads, maxRunning.get(),
+                readMicros.get(readMicros.size() / 2), readMicros.get(readMicros.size() * 99 / 100));
+
+        assertTrue(maxRunning.get() <= HASH_THREADS);
+        assertTrue(rejected.get() >= loginThreads - HASH_THREADS - QUEUE_CAPACITY);
+        assertTrue(rejectMillis.stream().allMatch(millis -> millis < 100));
+        assertEquals(rejected.get(), (int) meterRegistry.get("password.hash.rejected").counter().count());
+    }
+
+    @Test
+    void encodeRunsOnBoundedPool() {
+        String encoded = passwordEncoder.encode("1111");
+
+        assertTrue(new BCryptPasswordEncoder().matches("1111", encoded));
+        assertEquals(1, meterRegistry.get("password.hash.latency").tag("operation", "encode").timer().count());
+    }
+
+    private boolean allDone(List<Future<?>> futures) {
+        return futures.stream().allMatch(Future::isDone);
+    }
+
+    private void simulateRead() {
+        long sum = 0;
+        for (int i = 0; i < 10_000; i++) {
+            sum += i;
+        }
+        assertTrue(sum > 0);
+    }
+
+    private PasswordEncoder countingEncoder(PasswordEncoder delegate) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return track(() -> delegate.encode(rawPassword));
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return track(() -> delegate.matches(rawPassword, encodedPassword));
+            }
+
+            private <T> T track(Supplier<T> hash) {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    return hash.get();
+                } finally {
+                    running.decrementAndGet();
+                }
+            }
+        };
+    }
+}
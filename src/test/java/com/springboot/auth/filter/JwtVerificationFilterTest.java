@@ -0,0 +1,140 @@
+package com.springboot.auth.filter;
+
+import com.springboot.auth.CustomPrincipal;
+import com.springboot.auth.MemberDetailsService;
+import com.springboot.auth.cache.TokenNearCache;
+import com.springboot.auth.jwt.JwtTokenizer;
+import com.springboot.auth.jwt.SignedToken;
+import com.springboot.auth.token.TokenFingerprint;
+import com.springboot.auth.utils.AuthorityUtils;
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import com.springboot.member.entity.Member;
+import com.springboot.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+// Claims 만으로 principal 생성 (stateless) 과 회원 상태 버전 확인 검증
+class JwtVerificationFilterTest {
+    private static final String USERNAME = "user@gmail.com";
+    private static final long MEMBER_ID = 7L;
+
+    private final JwtTokenizer jwtTokenizer = new JwtTokenizer(null, null, null,
+            "test-secret-key-that-is-at-least-32-bytes-long", "default", 30, 420);
+    private final MemberRepository memberRepository = Mockito.mock(MemberRepository.class);
+    private final MemberDetailsService memberDetailsService =
+            Mockito.spy(new MemberDetailsService(memberRepository, new AuthorityUtils()));
+    // 저장소 조회 없이 통과하도록 발급한 토큰을 캐시에 등록
+    private final TokenNearCache tokenNearCache = new TokenNearCache(60, 100);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void statelessPrincipalIsBuiltFromClaimsWithoutMemberLookup() throws Exception {
+        // given
+        JwtVerificationFilter filter = filter(true, false);
+
+        // when
+        MockHttpServletRequest request = filter(filter, accessToken(0));
+
+        // then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        CustomPrincipal principal = (CustomPrincipal) authentication.getPrincipal();
+        assertEquals(USERNAME, principal.getEmail());
+        assertEquals(MEMBER_ID, principal.getMemberId());
+        assertEquals("ROLE_USER", authentication.getAuthorities().iterator().next().getAuthority());
+        assertNull(request.getAttribute("exception"));
+        Mockito.verify(memberDetailsService, Mockito.never()).loadUserByUsername(anyString());
+        Mockito.verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    void statefulPrincipalLoadsMember() throws Exception {
+        // given
+        Member member = new Member();
+        member.setMemberId(MEMBER_ID);
+        member.setEmail(USERNAME);
+        given(memberRepository.findByEmail(USERNAME)).willReturn(Optional.of(member));
+        JwtVerificationFilter filter = filter(false, false);
+
+        // when
+        filter(filter, accessToken(0));
+
+        // then
+        CustomPrincipal principal = (CustomPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assertEquals(MEMBER_ID, principal.getMemberId());
+        Mockito.verify(memberDetailsService).loadUserByUsername(USERNAME);
+    }
+
+    @Test
+    void currentStatusVersionIsAccepted() throws Exception {
+        // given
+        given(memberRepository.findStatusVersion(MEMBER_ID, Member.MemberStatus.MEMBER_ACTIVE)).willReturn(Optional.of(2));
+        JwtVerificationFilter filter = filter(true, true);
+
+        // when
+        MockHttpServletRequest request = filter(filter, accessToken(2));
+
+        // then
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        assertNull(request.getAttribute("exception"));
+    }
+
+    @Test
+    void outdatedStatusVersionOrQuitMemberIsRejected() throws Exception {
+        // given : 토큰 발급 후 상태 버전이 바뀐 회원 / 탈퇴한 회원
+        List<Optional<Integer>> currentVersions = List.of(Optional.of(3), Optional.empty());
+        JwtVerificationFilter filter = filter(true, true);
+
+        for (Optional<Integer> currentVersion : currentVersions) {
+            given(memberRepository.findStatusVersion(anyLong(), any())).willReturn(currentVersion);
+
+            // when
+            MockHttpServletRequest request = filter(filter, accessToken(2));
+
+            // then
+            assertNull(SecurityContextHolder.getContext().getAuthentication());
+            BusinessLogicException exception = (BusinessLogicException) request.getAttribute("exception");
+            assertEquals(ExceptionCode.INVALID_MEMBER_STATUS, exception.getExceptionCode());
+        }
+    }
+
+    private JwtVerificationFilter filter(boolean statelessPrincipal, boolean memberStatusCheck) {
+        return new JwtVerificationFilter(jwtTokenizer, new AuthorityUtils(), memberDetailsService, tokenNearCache,
+                statelessPrincipal, memberStatusCheck);
+    }
+
+    private MockHttpServletRequest filter(JwtVerificationFilter filter, String accessToken) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/qna/questions");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return request;
+    }
+
+    private String accessToken(int statusVersion) {
+        SignedToken accessToken = jwtTokenizer.generateAccessToken(
+                Map.of("username", USERNAME, "roles", List.of("USER"), "memberId", MEMBER_ID, "statusVersion", statusVersion),
+                USERNAME, jwtTokenizer.getTokenExpiration(30));
+        tokenNearCache.put(USERNAME, TokenFingerprint.of(accessToken.getTokenId()));
+        return accessToken.getJws();
+    }
+}
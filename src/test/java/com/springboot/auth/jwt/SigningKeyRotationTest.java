@@ -0,0 +1,110 @@
+package com.springboot.auth.jwt;
+
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 서명 키 교체 / 이전 kid 검증 / 폐기 / 다른 노드 전달 검증
+class SigningKeyRotationTest {
+    private static final String DEFAULT_KEY = "test-secret-key-that-is-at-least-32-bytes-long";
+    private static final String NEXT_KEY = "next-secret-key-that-is-at-least-32-bytes-long";
+
+    private final JwtTokenizer jwtTokenizer = jwtTokenizer();
+    private final SigningKeyRotation signingKeyRotation = signingKeyRotation(jwtTokenizer);
+
+    @Test
+    void rotatedKeySignsNewTokensAndOldKidStillVerifies() {
+        // given
+        String oldToken = accessToken(jwtTokenizer);
+
+        // when
+        signingKeyRotation.activate("next");
+
+        // then
+        String newToken = accessToken(jwtTokenizer);
+        assertEquals("next", jwtTokenizer.getClaims(newToken).getHeader().get(JwsHeader.KEY_ID));
+        assertEquals("default", jwtTokenizer.getClaims(oldToken).getHeader().get(JwsHeader.KEY_ID));
+        assertEquals("user@gmail.com", jwtTokenizer.getClaims(oldToken).getBody().getSubject());
+    }
+
+    @Test
+    void retiredKeyIsRejected() {
+        // given
+        String oldToken = accessToken(jwtTokenizer);
+        signingKeyRotation.activate("next");
+
+        // when
+        signingKeyRotation.retire("default");
+
+        // then
+        assertThrows(SignatureException.class, () -> jwtTokenizer.getClaims(oldToken));
+        assertDoesNotThrow(() -> jwtTokenizer.getClaims(accessToken(jwtTokenizer)));
+    }
+
+    @Test
+    void activeOrUnknownKeyCanNotBeRetiredOrActivated() {
+        BusinessLogicException active = assertThrows(BusinessLogicException.class,
+                () -> signingKeyRotation.retire("default"));
+        assertEquals(ExceptionCode.SIGNING_KEY_ACTIVE, active.getExceptionCode());
+
+        BusinessLogicException unknown = assertThrows(BusinessLogicException.class,
+                () -> signingKeyRotation.activate("unknown"));
+        assertEquals(ExceptionCode.SIGNING_KEY_NOT_FOUND, unknown.getExceptionCode());
+        assertEquals("default", jwtTokenizer.getActiveKeyId());
+    }
+
+    @Test
+    void otherNodeVerifiesNewKidBeforeAndAppliesRotationAfterMessage() {
+        // given : 같은 설정으로 뜬 다른 노드
+        JwtTokenizer otherTokenizer = jwtTokenizer();
+        SigningKeyRotationListener otherListener =
+                new SigningKeyRotationListener(signingKeyRotation(otherTokenizer), null);
+
+        // when : 이 노드에서 교체, 메시지가 도착하기 전 새 kid 토큰 검증
+        signingKeyRotation.activate("next");
+        String newToken = accessToken(jwtTokenizer);
+        assertDoesNotThrow(() -> otherTokenizer.getClaims(newToken));
+        otherListener.onMessage(message("activate:next"), null);
+
+        // then
+        assertEquals("next", otherTokenizer.getActiveKeyId());
+        otherListener.onMessage(message("retire:default"), null);
+        assertThrows(SignatureException.class, () -> otherTokenizer.getClaims(accessTokenSignedBy("default")));
+    }
+
+    private static JwtTokenizer jwtTokenizer() {
+        return new JwtTokenizer(null, null, null, DEFAULT_KEY, "default", 30, 420);
+    }
+
+    // memory 토큰 저장소 설정 (Redis 로 전달 X)
+    private static SigningKeyRotation signingKeyRotation(JwtTokenizer jwtTokenizer) {
+        MockEnvironment environment = new MockEnvironment().withProperty("jwt.keys.next", NEXT_KEY);
+        return new SigningKeyRotation(jwtTokenizer, null, environment, "memory");
+    }
+
+    private static String accessToken(JwtTokenizer jwtTokenizer) {
+        return jwtTokenizer.generateAccessToken(Map.of("username", "user@gmail.com"), "user@gmail.com",
+                jwtTokenizer.getTokenExpiration(30)).getJws();
+    }
+
+    // 기본 키로 서명된 토큰 (폐기 전 다른 노드에서 발급)
+    private static String accessTokenSignedBy(String keyId) {
+        JwtTokenizer issuer = jwtTokenizer();
+        assertEquals(keyId, issuer.getActiveKeyId());
+        return accessToken(issuer);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(SigningKeyRotation.ROTATION_TOPIC.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
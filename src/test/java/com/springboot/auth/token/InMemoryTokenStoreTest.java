@@ -0,0 +1,92 @@
+package com.springboot.auth.token;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Redis 없이 memory 저장소의 등록 / 삭제 / 만료 동작 검증
+class InMemoryTokenStoreTest {
+    private static final Duration ACCESS_TTL = Duration.ofMinutes(30);
+    private static final Duration REFRESH_TTL = Duration.ofMinutes(420);
+
+    private InMemoryTokenStore tokenStore;
+
+    @BeforeEach
+    void setUp() {
+        tokenStore = new InMemoryTokenStore(10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tokenStore.shutdown();
+    }
+
+    @Test
+    void registerAndRevoke() {
+        tokenStore.register("user@gmail.com", "access-1", "refresh-1", ACCESS_TTL, REFRESH_TTL);
+        assertTrue(tokenStore.exists("user@gmail.com"));
+
+        assertTrue(tokenStore.revoke("user@gmail.com"));
+        assertFalse(tokenStore.exists("user@gmail.com"));
+        assertFalse(tokenStore.revoke("user@gmail.com"));
+    }
+
+    @Test
+    void rotateReplacesTokensOnlyWithCurrentRefreshToken() throws InterruptedException {
+        tokenStore.register("user@gmail.com", "access-1", "refresh-1", Duration.ofMillis(30), REFRESH_TTL);
+        Thread.sleep(100);
+        // access token 만료 후에도 refresh token 으로 재발급 가능
+        assertFalse(tokenStore.exists("user@gmail.com"));
+
+        assertTrue(tokenStore.rotate("user@gmail.com", "refresh-1", "access-2", "refresh-2", ACCESS_TTL, REFRESH_TTL));
+        assertTrue(tokenStore.exists("user@gmail.com"));
+        assertFalse(tokenStore.rotate("user@gmail.com", "refresh-1", "access-3", "refresh-3", ACCESS_TTL, REFRESH_TTL));
+    }
+
+    @Test
+    void expiredTokenIsNotRegistered() throws InterruptedException {
+        tokenStore.register("user@gmail.com", "access-1", "refresh-1", Duration.ofMillis(30), REFRESH_TTL);
+        Thread.sleep(100);
+
+        assertFalse(tokenStore.exists("user@gmail.com"));
+        assertFalse(tokenStore.revoke("user@gmail.com"));
+    }
+
+    @Test
+    void concurrentRevokeSucceedsOnlyOnce() throws Exception {
+        tokenStore.register("user@gmail.com", "access-1", "refresh-1", ACCESS_TTL, REFRESH_TTL);
+
+        int threads = 16;
+        AtomicInteger revoked = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                if (tokenStore.revoke("user@gmail.com")) {
+                    revoked.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(1, revoked.get());
+    }
+}
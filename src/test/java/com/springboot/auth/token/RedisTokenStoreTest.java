@@ -0,0 +1,258 @@
+package com.springboot.auth.token;
+
+import com.springboot.auth.jwt.JwtTokenizer;
+import com.springboot.auth.jwt.SignedToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 로컬 embedded Redis 에 대해 토큰 등록 / 삭제 스크립트의 원자성 검증
+class RedisTokenStoreTest {
+    private static final Logger log = LoggerFactory.getLogger(RedisTokenStoreTest.class);
+
+    private static final int PORT = 6390;
+    private static final Duration ACCESS_TTL = Duration.ofMinutes(30);
+    private static final Duration REFRESH_TTL = Duration.ofMinutes(420);
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+    private static RedisTokenStore redisTokenStore;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        redisServer = new RedisServer(PORT);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", PORT));
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        redisTokenStore = new RedisTokenStore(redisTemplate);
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @AfterEach
+    void flush() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @Test
+    void registerStoresAccessAndRefreshToken() {
+        redisTokenStore.register("user@gmail.com", "access-1", "refresh-1", ACCESS_TTL, REFRESH_TTL);
+
+        assertTrue(redisTokenStore.exists("user@gmail.com"));
+        assertEquals("access-1", redisTemplate.opsForValue().get("user@gmail.com"));
+        assertEquals("refresh-1", redisTemplate.opsForValue().get("rt:user@gmail.com"));
+        assertTrue(redisTemplate.getExpire("rt:user@gmail.com", TimeUnit.MINUTES) > ACCESS_TTL.toMinutes());
+    }
+
+    @Test
+    void reLoginRemovesPreviousRefreshToken() {
+        redisTokenStore.register("user@gmail.com", "access-1", "refresh-1", ACCESS_TTL, REFRESH_TTL);
+        redisTokenStore.register("user@gmail.com", "access-2", "refresh-2", ACCESS_TTL, REFRESH_TTL);
+
+        assertEquals("access-2", redisTemplate.opsForValue().get("user@gmail.com"));
+        assertEquals("refresh-2", redisTemplate.opsForValue().get("rt:user@gmail.com"));
+        assertEquals(Set.of("user@gmail.com", "rt:user@gmail.com"), redisTemplate.keys("*"));
+    }
+
+    @Test
+    void revokeDeletesBothTokens() {
+        redisTokenStore.register("user@gmail.com", "access-1", "refresh-1", ACCESS_TTL, REFRESH_TTL);
+
+        assertTrue(redisTokenStore.revoke("user@gmail.com"));
+        assertFalse(redisTokenStore.exists("user@gmail.com"));
+        assertFalse(redisTemplate.hasKey("rt:user@gmail.com"));
+        assertFalse(redisTokenStore.revoke("user@gmail.com"));
+    }
+
+    @Test
+    void rotateReplacesTokensOnlyWithCurrentRefreshToken() {
+        redisTokenStore.register("user@gmail.com", "access-1", "refresh-1", ACCESS_TTL, REFRESH_TTL);
+
+        assertTrue(redisTokenStore.rotate("user@gmail.com", "refresh-1", "access-2", "refresh-2", ACCESS_TTL, REFRESH_TTL));
+        assertEquals("access-2", redisTemplate.opsForValue().get("user@gmail.com"));
+        assertEquals("refresh-2", redisTemplate.opsForValue().get("rt:user@gmail.com"));
+
+        // 이미 사용된 refresh token, 로그아웃 후 refresh token 은 거절
+        assertFalse(redisTokenStore.rotate("user@gmail.com", "refresh-1", "access-3", "refresh-3", ACCESS_TTL, REFRESH_TTL));
+        redisTokenStore.revoke("user@gmail.com");
+        assertFalse(redisTokenStore.rotate("user@gmail.com", "refresh-2", "access-3", "refresh-3", ACCESS_TTL, REFRESH_TTL));
+        assertEquals(Set.of(), redisTemplate.keys("*"));
+    }
+
+    @Test
+    void concurrentRotateWithSameRefreshTokenSucceedsExactlyOnce() throws Exception {
+        redisTokenStore.register("user@gmail.com", "access-1", "refresh-1", ACCESS_TTL, REFRESH_TTL);
+        AtomicInteger succeeded = new AtomicInteger();
+
+        runConcurrently(32, index -> {
+            // 새 식별자가 제출한 refresh-1 과 겹치지 않도록 new- 접두사
+            if (redisTokenStore.rotate("user@gmail.com", "refresh-1", "access-new-" + index, "refresh-new-" + index,
+                    ACCESS_TTL, REFRESH_TTL)) {
+                succeeded.incrementAndGet();
+            }
+        });
+
+        assertEquals(1, succeeded.get());
+        String accessToken = (String) redisTemplate.opsForValue().get("user@gmail.com");
+        assertEquals(accessToken.replace("access", "refresh"), redisTemplate.opsForValue().get("rt:user@gmail.com"));
+    }
+
+    @Test
+    void concurrentRevokeSucceedsExactlyOnce() throws Exception {
+        redisTokenStore.register("user@gmail.com", "access-1", "refresh-1", ACCESS_TTL, REFRESH_TTL);
+        AtomicInteger succeeded = new AtomicInteger();
+
+        runConcurrently(32, index -> {
+            if (redisTokenStore.revoke("user@gmail.com")) {
+                succeeded.incrementAndGet();
+            }
+        });
+
+        assertEquals(1, succeeded.get());
+        assertEquals(Set.of(), redisTemplate.keys("*"));
+    }
+
+    @Test
+    void concurrentLoginAndLogoutLeaveNoOrphanTokens() throws Exception {
+        runConcurrently(64, index -> {
+            for (int i = 0; i < 50; i++) {
+                if ((index + i) % 3 == 0) {
+                    redisTokenStore.revoke("user@gmail.com");
+                } else {
+                    String accessToken = "access-" + index + "-" + i;
+                    redisTokenStore.register("user@gmail.com", accessToken, "refresh-" + index + "-" + i,
+                            ACCESS_TTL, REFRESH_TTL);
+                }
+            }
+        });
+
+        // 로그인 상태면 username 키 + refresh token 키 두 개만, 로그아웃 상태면 아무 키도 없어야 함
+        Set<String> keys = redisTemplate.keys("*");
+        Object accessToken = redisTemplate.opsForValue().get("user@gmail.com");
+        if (accessToken == null) {
+            assertEquals(Set.of(), keys);
+        } else {
+            assertEquals(Set.of("user@gmail.com", "rt:user@gmail.com"), keys);
+            assertEquals(((String) accessToken).replace("access", "refresh"),
+                    redisTemplate.opsForValue().get("rt:user@gmail.com"));
+        }
+    }
+
+    // 세션 1개당 Redis 메모리 사용량 비교 (원본 JWT 저장 vs jti fingerprint 저장)
+    @Test
+    void fingerprintLayoutUsesLessMemoryPerSession() {
+        TokenStoreCircuitBreaker circuitBreaker = new TokenStoreCircuitBreaker(new SimpleMeterRegistry(),
+                5, 5000, "fail-closed", 30);
+        JwtTokenizer jwtTokenizer = new JwtTokenizer(redisTokenStore, circuitBreaker, null,
+                "test-secret-key-that-is-at-least-32-bytes-long", "default", 30, 420);
+        int sessions = 1000;
+
+        for (int i = 0; i < sessions; i++) {
+            SignedToken[] tokens = issueTokens(jwtTokenizer, i);
+            // 이전 구조: username -> access token, access token -> refresh token
+            redisTemplate.opsForValue().set("legacy:user" + i + "@gmail.com", tokens[0].getJws(), ACCESS_TTL);
+            redisTemplate.opsForValue().set(tokens[0].getJws(), tokens[1].getJws(), REFRESH_TTL);
+        }
+        long legacyBytes = usedMemory("*");
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+
+        for (int i = 0; i < sessions; i++) {
+            SignedToken[] tokens = issueTokens(jwtTokenizer, i);
+            jwtTokenizer.registerTokens("user" + i + "@gmail.com", tokens[0], tokens[1]);
+        }
+        long fingerprintBytes = usedMemory("*");
+
+        log.info("# token store bytes/session : legacy={}, fingerprint={}",
+                legacyBytes / sessions, fingerprintBytes / sessions);
+        assertTrue(fingerprintBytes * 2 < legacyBytes);
+    }
+
+    private SignedToken[] issueTokens(JwtTokenizer jwtTokenizer, int index) {
+        String username = "user" + index + "@gmail.com";
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("username", username);
+        claims.put("roles", List.of("USER"));
+        claims.put("memberId", (long) index);
+        claims.put("statusVersion", 0);
+        SignedToken accessToken = jwtTokenizer.generateAccessToken(claims, username,
+                jwtTokenizer.getTokenExpiration(jwtTokenizer.getAccessTokenExpirationMinutes()));
+        SignedToken refreshToken = jwtTokenizer.generateRefreshToken(claims, username,
+                jwtTokenizer.getTokenExpiration(jwtTokenizer.getRefreshTokenExpirationMinutes()));
+        return new SignedToken[]{accessToken, refreshToken};
+    }
+
+    // MEMORY USAGE 합계 (키 + 값 + 만료 정보 + 내부 오버헤드)
+    private long usedMemory(String pattern) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>(
+                "local total = 0 " +
+                "for _, key in ipairs(redis.call('KEYS', ARGV[1])) do " +
+                "total = total + redis.call('MEMORY', 'USAGE', key) end " +
+                "return total", Long.class);
+        return redisTemplate.execute(script, List.of(), pattern);
+    }
+
+    private void runConcurrently(int threads, ThrowingTask task) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int index = 0; index < threads; index++) {
+                int taskIndex = index;
+                futures.add(executorService.submit(() -> {
+                    startGate.await();
+                    task.run(taskIndex);
+                    return null;
+                }));
+            }
+            startGate.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingTask {
+        void run(int index) throws Exception;
+    }
+}
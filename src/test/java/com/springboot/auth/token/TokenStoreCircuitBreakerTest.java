@@ -0,0 +1,86 @@
+package com.springboot.auth.token;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 저장소 장애 시 circuit 상태 전이와 fallback 동작 검증
+class TokenStoreCircuitBreakerTest {
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final Supplier<Boolean> failingCall = () -> {
+        calls.incrementAndGet();
+        throw new RedisConnectionFailureException("redis down");
+    };
+
+    @Test
+    void opensAfterConsecutiveFailuresAndSkipsStore() {
+        TokenStoreCircuitBreaker circuitBreaker = circuitBreaker(60_000, "fail-closed");
+
+        for (int i = 0; i < 3; i++) {
+            assertFalse(circuitBreaker.execute("exists", failingCall, circuitBreaker::trustSignatureOnly));
+        }
+        assertEquals(TokenStoreCircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        // open 상태에서는 저장소를 호출하지 않음
+        assertFalse(circuitBreaker.execute("exists", failingCall, circuitBreaker::trustSignatureOnly));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void halfOpenTrialClosesCircuitOnSuccess() throws InterruptedException {
+        TokenStoreCircuitBreaker circuitBreaker = circuitBreaker(50, "fail-closed");
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.execute("exists", failingCall, circuitBreaker::trustSignatureOnly);
+        }
+        Thread.sleep(100);
+
+        assertTrue(circuitBreaker.execute("exists", () -> true, circuitBreaker::trustSignatureOnly));
+        assertEquals(TokenStoreCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void unexpectedExceptionDuringTrialReopensCircuit() throws InterruptedException {
+        TokenStoreCircuitBreaker circuitBreaker = circuitBreaker(50, "fail-closed");
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.execute("exists", failingCall, circuitBreaker::trustSignatureOnly);
+        }
+        Thread.sleep(100);
+
+        // 시험 호출에서 저장소 장애가 아닌 예외
+        assertThrows(IllegalStateException.class, () -> circuitBreaker.execute("exists",
+                () -> { throw new IllegalStateException("unexpected"); }, circuitBreaker::trustSignatureOnly));
+        assertEquals(TokenStoreCircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        // open 시간이 지나면 다시 시험 호출해서 닫힘
+        Thread.sleep(100);
+        assertTrue(circuitBreaker.execute("exists", () -> true, circuitBreaker::trustSignatureOnly));
+        assertEquals(TokenStoreCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void trustSignatureFallbackAllowsTokensDuringOutage() {
+        TokenStoreCircuitBreaker circuitBreaker = circuitBreaker(60_000, "trust-signature");
+
+        assertTrue(circuitBreaker.execute("exists", failingCall, circuitBreaker::trustSignatureOnly));
+        // 정상 응답이면 저장소 결과 그대로 사용
+        assertFalse(circuitBreaker.execute("exists", () -> false, circuitBreaker::trustSignatureOnly));
+    }
+
+    @Test
+    void trustSignatureFallbackExpires() {
+        TokenStoreCircuitBreaker circuitBreaker = new TokenStoreCircuitBreaker(new SimpleMeterRegistry(),
+                3, 60_000, "trust-signature", 0);
+
+        assertFalse(circuitBreaker.execute("exists", failingCall, circuitBreaker::trustSignatureOnly));
+    }
+
+    private TokenStoreCircuitBreaker circuitBreaker(long openMillis, String fallback) {
+        return new TokenStoreCircuitBreaker(new SimpleMeterRegistry(), 3, openMillis, fallback, 30);
+    }
+}
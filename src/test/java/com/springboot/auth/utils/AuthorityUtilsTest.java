@@ -0,0 +1,33 @@
+package com.springboot.auth.utils;
+
+import com.springboot.member.entity.Member;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthorityUtilsTest {
+    private final AuthorityUtils authorityUtils = new AuthorityUtils();
+
+    @Test
+    public void sameRolesShareOneAuthorityListTest() {
+        // given : 관리자 회원의 역할 bit 합, 토큰 claims 의 역할 이름 (순서 무관)
+        Member member = new Member();
+        member.setRoleMask(Member.Role.ADMIN.getBit() | Member.Role.USER.getBit());
+
+        // when
+        List<GrantedAuthority> fromMember = authorityUtils.createAuthorities(member.getRoleMask());
+        List<GrantedAuthority> fromClaims = authorityUtils.createAuthorities(List.of("USER", "ADMIN"));
+
+        // then
+        assertSame(fromMember, fromClaims);
+        assertEquals(Set.of(new SimpleGrantedAuthority("ROLE_ADMIN"), new SimpleGrantedAuthority("ROLE_USER")),
+                Set.copyOf(fromMember));
+        assertSame(member.getRoles(), Member.Role.names(Member.Role.mask(member.getRoles())));
+        assertThrows(UnsupportedOperationException.class, () -> fromMember.add(new SimpleGrantedAuthority("ROLE_X")));
+    }
+}
@@ -0,0 +1,90 @@
+package com.springboot.like;
+
+import com.springboot.like.entity.Like;
+import com.springboot.like.repository.LikeRepository;
+import com.springboot.like.service.LikeCountReconciler;
+import com.springboot.member.entity.Member;
+import com.springboot.member.repository.MemberRepository;
+import com.springboot.question.entity.Question;
+import com.springboot.question.repository.QuestionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 범위를 작게 나눠서 여러 범위가 병렬로 처리되도록 실행 (속도 제한 없음)
+@SpringBootTest(properties = {"jwt.token-store=memory", "question.page-cache.fan-out=none",
+        "like.reconcile.chunk-size=4", "like.reconcile.parallelism=4", "like.reconcile.chunks-per-second=0",
+        "spring.jpa.show-sql=false", "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn"})
+class LikeCountReconcilerTest {
+    private static final int QUESTIONS = 30;
+
+    @Autowired
+    private LikeCountReconciler likeCountReconciler;
+    @Autowired
+    private LikeRepository likeRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    private final List<Member> members = new ArrayList<>();
+    private final List<Question> questions = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        likeRepository.deleteAll();
+        questionRepository.deleteAll(questions);
+        memberRepository.deleteAll(members);
+    }
+
+    @Test
+    public void driftedLikeCountsAreCorrectedTest() {
+        // given : 질문마다 0 ~ 3개 좋아요, 3개 중 1개는 좋아요 수가 어긋남
+        for (int i = 0; i < 3; i++) {
+            Member member = new Member();
+            member.setEmail("reconcile" + i + "@gmail.com");
+            member.setPassword("1111");
+            member.setName("보정" + i);
+            member.setPhone("010-7777-000" + i);
+            members.add(memberRepository.save(member));
+        }
+        int drifted = 0;
+        for (int i = 0; i < QUESTIONS; i++) {
+            Question question = new Question();
+            question.setTitle("보정 질문" + i);
+            question.setContent("내용");
+            question.setMember(members.get(0));
+            question = questionRepository.save(question);
+            questions.add(question);
+            for (int liker = 0; liker < i % 4; liker++) {
+                Like like = new Like();
+                like.setQuestion(question);
+                like.setMember(members.get(liker));
+                likeRepository.save(like);
+            }
+            questionRepository.addLikeCount(question.getQuestionId(), i % 3 == 0 ? 2 : i % 4);
+            if (i % 3 == 0 && i % 4 != 2) {
+                drifted++;
+            }
+        }
+
+        // when
+        long corrected = likeCountReconciler.reconcile();
+
+        // then : 한 번 더 실행하면 보정할 질문 없음
+        assertEquals(drifted, corrected);
+        for (Question question : questions) {
+            long questionId = question.getQuestionId();
+            assertEquals(likeRepository.countByQuestion_QuestionId(questionId),
+                    questionRepository.findById(questionId).orElseThrow().getLikeCount());
+        }
+        assertEquals(0, likeCountReconciler.reconcile());
+        assertEquals(1.0, likeCountReconciler.progress());
+    }
+}
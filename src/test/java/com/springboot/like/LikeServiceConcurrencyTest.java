@@ -0,0 +1,135 @@
+package com.springboot.like;
+
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import com.springboot.like.engine.LikeEvent;
+import com.springboot.like.repository.LikeRepository;
+import com.springboot.like.service.LikeService;
+import com.springboot.member.entity.Member;
+import com.springboot.member.repository.MemberRepository;
+import com.springboot.question.entity.Question;
+import com.springboot.question.repository.QuestionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 여러 스레드가 같은 질문에 좋아요를 토글해도 좋아요 수 == 좋아요 행 수
+// (Redis 없이 실행, unique 제약 위반은 예상된 결과이므로 SQL 로그 끔)
+@SpringBootTest(properties = {"jwt.token-store=memory", "question.page-cache.fan-out=none",
+        "spring.jpa.show-sql=false", "logging.level.org.hibernate=warn",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn",
+        "logging.level.org.hibernate.engine.jdbc.spi.SqlExceptionHelper=off"})
+class LikeServiceConcurrencyTest {
+    private static final int THREADS = 16;
+    private static final int TOGGLES = 10_000;
+    private static final int MEMBERS = 20;
+
+    @Autowired
+    private LikeService likeService;
+    @Autowired
+    private LikeRepository likeRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    private final List<Member> members = new ArrayList<>();
+    private Question question;
+
+    @AfterEach
+    void cleanUp() {
+        likeRepository.deleteAll();
+        if (question != null) {
+            questionRepository.delete(question);
+        }
+        memberRepository.deleteAll(members);
+        members.clear();
+    }
+
+    @Test
+    public void concurrentTogglesKeepLikeCountConsistentTest() throws Exception {
+        // given
+        long questionId = saveQuestionAndMembers();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger toggled = new AtomicInteger();
+        AtomicInteger alreadyLiked = new AtomicInteger();
+
+        // when : 같은 회원의 토글도 동시에 겹치도록 소수의 회원이 번갈아 토글
+        for (int i = 0; i < TOGGLES; i++) {
+            executor.submit(() -> {
+                start.await();
+                long memberId = members.get(ThreadLocalRandom.current().nextInt(MEMBERS)).getMemberId();
+                try {
+                    likeService.toggleLike(questionId, memberId);
+                    toggled.incrementAndGet();
+                } catch (BusinessLogicException e) {
+                    assertEquals(ExceptionCode.ALREADY_LIKED, e.getExceptionCode());
+                    alreadyLiked.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(2, TimeUnit.MINUTES));
+
+        // then
+        int likeRows = likeRepository.countByQuestion_QuestionId(questionId);
+        int likeCount = questionRepository.findById(questionId).orElseThrow().getLikeCount();
+        assertEquals(TOGGLES, toggled.get() + alreadyLiked.get());
+        assertEquals(likeRows, likeCount);
+        assertTrue(likeRows <= MEMBERS);
+    }
+
+    @Test
+    public void replayedLikeEventsKeepLikeCountConsistentTest() {
+        // given : Redis 엔진 이벤트, 없는 질문 이벤트 포함
+        long questionId = saveQuestionAndMembers();
+        long memberId = members.get(1).getMemberId();
+        List<LikeEvent> events = List.of(
+                new LikeEvent(questionId, members.get(0).getMemberId(), 1),
+                new LikeEvent(questionId, memberId, 1),
+                new LikeEvent(questionId, memberId, -1),
+                new LikeEvent(questionId, memberId, 1),
+                new LikeEvent(Long.MAX_VALUE, memberId, 1));
+
+        // when : 확인 전에 실패해서 같은 이벤트를 다시 반영
+        likeService.applyLikeEvents(events);
+        likeService.applyLikeEvents(events);
+
+        // then
+        assertEquals(2, likeRepository.countByQuestion_QuestionId(questionId));
+        assertEquals(2, questionRepository.findById(questionId).orElseThrow().getLikeCount());
+    }
+
+    private long saveQuestionAndMembers() {
+        for (int i = 0; i < MEMBERS; i++) {
+            Member member = new Member();
+            member.setEmail("like" + i + "@gmail.com");
+            member.setPassword("1111");
+            member.setName("좋아요" + i);
+            member.setPhone(String.format("010-9999-%04d", i));
+            members.add(memberRepository.save(member));
+        }
+        question = new Question();
+        question.setTitle("좋아요 질문");
+        question.setContent("내용");
+        question.setMember(members.get(0));
+        question = questionRepository.save(question);
+        return question.getQuestionId();
+    }
+}
@@ -0,0 +1,210 @@
+package com.springboot.like;
+
+import com.springboot.like.engine.LikeEvent;
+import com.springboot.like.engine.RedisLikeEngine;
+import com.springboot.like.engine.RedisLikeEventWriter;
+import com.springboot.like.repository.LikeRepository;
+import com.springboot.like.service.LikeService;
+import com.springboot.question.service.QuestionService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+
+// 로컬 embedded Redis 에 대해 좋아요 토글 스크립트와 이벤트 반영 (at-least-once) 검증
+class RedisLikeEngineTest {
+    private static final int PORT = 6391;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private final LikeRepository likeRepository = Mockito.mock(LikeRepository.class);
+    private final LikeService likeService = Mockito.mock(LikeService.class);
+    private RedisLikeEngine redisLikeEngine;
+    private RedisLikeEventWriter redisLikeEventWriter;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        redisServer = new RedisServer(PORT);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", PORT));
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @AfterEach
+    void flush() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @Test
+    void firstToggleLoadsExistingLikers() {
+        // given : DB 에는 회원 1, 2 의 좋아요
+        redisLikeEngine = new RedisLikeEngine(redisTemplate, likeRepository, Mockito.mock(QuestionService.class));
+        given(likeRepository.findMemberIdsByQuestionId(1L)).willReturn(List.of(1L, 2L));
+
+        // when : 회원 3 좋아요, 회원 1 취소
+        redisLikeEngine.toggle(1L, 3L);
+        redisLikeEngine.toggle(1L, 1L);
+
+        // then : DB 는 처음 한 번만 조회
+        assertEquals("2", redisTemplate.opsForValue().get("like-count:1"));
+        assertEquals(2L, redisTemplate.opsForSet().size("likes:1"));
+        assertTrue(redisTemplate.opsForSet().isMember("likes:1", "3"));
+        assertFalse(redisTemplate.opsForSet().isMember("likes:1", "1"));
+        assertEquals(2L, redisTemplate.opsForStream().size("like-events"));
+        Mockito.verify(likeRepository, Mockito.times(1)).findMemberIdsByQuestionId(1L);
+    }
+
+    @Test
+    void failedWriteIsRetriedFromPendingEvents() {
+        // given
+        redisLikeEngine = new RedisLikeEngine(redisTemplate, likeRepository, Mockito.mock(QuestionService.class));
+        redisLikeEventWriter = new RedisLikeEventWriter(redisTemplate, likeService, 500, 30, 5);
+        given(likeRepository.findMemberIdsByQuestionId(Mockito.anyLong())).willReturn(List.of());
+        redisLikeEngine.toggle(1L, 1L);
+        redisLikeEngine.toggle(1L, 1L);
+        redisLikeEngine.toggle(2L, 1L);
+        willThrow(new QueryTimeoutException("timeout")).willDoNothing().given(likeService).applyLikeEvents(anyList());
+
+        // when : 첫 반영은 실패, 다음 flush 에서 같은 이벤트를 순서대로 다시 반영
+        redisLikeEventWriter.flush();
+        redisLikeEventWriter.flush();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LikeEvent>> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(likeService, Mockito.times(2)).applyLikeEvents(captor.capture());
+        for (List<LikeEvent> events : captor.getAllValues()) {
+            assertEquals(List.of("1:1:1", "1:1:-1", "2:1:1"), events.stream()
+                    .map(event -> event.getQuestionId() + ":" + event.getMemberId() + ":" + event.getDelta())
+                    .collect(Collectors.toList()));
+        }
+        assertEquals(0L, redisTemplate.opsForStream().size("like-events"));
+        assertNull(redisTemplate.opsForValue().get("like-writer-lock"));
+
+        // 반영이 끝난 뒤에는 다시 읽지 않음
+        redisLikeEventWriter.flush();
+        Mockito.verify(likeService, Mockito.times(2)).applyLikeEvents(anyList());
+    }
+
+    @Test
+    void poisonEventIsMovedToDeadLetterAfterMaxDeliveries() {
+        // given : 질문 2 의 이벤트는 항상 실패, 2번 전달되면 dead-letter
+        redisLikeEngine = new RedisLikeEngine(redisTemplate, likeRepository, Mockito.mock(QuestionService.class));
+        redisLikeEventWriter = new RedisLikeEventWriter(redisTemplate, likeService, 500, 30, 2);
+        given(likeRepository.findMemberIdsByQuestionId(Mockito.anyLong())).willReturn(List.of());
+        redisLikeEngine.toggle(1L, 1L);
+        redisLikeEngine.toggle(2L, 1L);
+        redisLikeEngine.toggle(3L, 1L);
+        Mockito.doAnswer(invocation -> {
+            List<LikeEvent> events = invocation.getArgument(0);
+            if (events.stream().anyMatch(event -> event.getQuestionId() == 2L)) {
+                throw new IllegalStateException("poison");
+            }
+            return null;
+        }).when(likeService).applyLikeEvents(anyList());
+
+        // when : 첫 flush 는 질문 1 만 반영하고 중단, 두 번째 flush 에서 질문 2 를 옮기고 질문 3 반영
+        redisLikeEventWriter.flush();
+        assertEquals(2L, redisTemplate.opsForStream().size("like-events"));
+        redisLikeEventWriter.flush();
+
+        // then
+        assertEquals(0L, redisTemplate.opsForStream().size("like-events"));
+        assertEquals(1L, redisTemplate.opsForStream().size("like-events-dead"));
+        Mockito.verify(likeService, Mockito.times(1)).applyLikeEvents(Mockito.argThat(events ->
+                events.size() == 1 && events.get(0).getQuestionId() == 3L));
+    }
+
+    @Test
+    void writerStopsWhenLockIsTakenOver() {
+        // given : batch 1개씩, 첫 batch 반영 중에 잠금이 만료되어 다른 노드가 잡음
+        redisLikeEngine = new RedisLikeEngine(redisTemplate, likeRepository, Mockito.mock(QuestionService.class));
+        redisLikeEventWriter = new RedisLikeEventWriter(redisTemplate, likeService, 1, 30, 5);
+        given(likeRepository.findMemberIdsByQuestionId(Mockito.anyLong())).willReturn(List.of());
+        redisLikeEngine.toggle(1L, 1L);
+        redisLikeEngine.toggle(2L, 1L);
+        Mockito.doAnswer(invocation -> {
+            redisTemplate.opsForValue().set("like-writer-lock", "other-node");
+            return null;
+        }).when(likeService).applyLikeEvents(anyList());
+
+        // when
+        redisLikeEventWriter.flush();
+
+        // then : 두 번째 batch 는 읽지 않고, 다른 노드의 잠금은 그대로
+        Mockito.verify(likeService, Mockito.times(1)).applyLikeEvents(anyList());
+        assertEquals(1L, redisTemplate.opsForStream().size("like-events"));
+        assertEquals("other-node", redisTemplate.opsForValue().get("like-writer-lock"));
+    }
+
+    @Test
+    void likedQuestionsAreFoundInOnePipeline() {
+        // given : 질문 1, 2 는 Redis 에 적재, 질문 3 은 DB 에만 좋아요
+        redisLikeEngine = new RedisLikeEngine(redisTemplate, likeRepository, Mockito.mock(QuestionService.class));
+        given(likeRepository.findMemberIdsByQuestionId(Mockito.anyLong())).willReturn(List.of());
+        redisLikeEngine.toggle(1L, 7L);
+        redisLikeEngine.toggle(2L, 8L);
+        given(likeRepository.findLikedQuestionIds(7L, List.of(3L))).willReturn(List.of(3L));
+
+        // when
+        Set<Long> liked = redisLikeEngine.findLikedQuestionIds(7L, List.of(1L, 2L, 3L));
+
+        // then : 적재되지 않은 질문만 DB 조회
+        assertEquals(Set.of(1L, 3L), liked);
+        Mockito.verify(likeRepository, Mockito.times(1)).findLikedQuestionIds(Mockito.anyLong(), Mockito.anyCollection());
+    }
+
+    @Test
+    void likedQuestionsFallBackToDbWhenRedisIsDown() {
+        // given : 연결할 수 없는 Redis
+        LettuceConnectionFactory downFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", 1));
+        downFactory.afterPropertiesSet();
+        RedisTemplate<String, Object> downTemplate = new RedisTemplate<>();
+        downTemplate.setConnectionFactory(downFactory);
+        downTemplate.setKeySerializer(new StringRedisSerializer());
+        downTemplate.afterPropertiesSet();
+        redisLikeEngine = new RedisLikeEngine(downTemplate, likeRepository, Mockito.mock(QuestionService.class));
+        given(likeRepository.findLikedQuestionIds(7L, List.of(1L, 2L))).willReturn(List.of(2L));
+
+        // when
+        Set<Long> liked = redisLikeEngine.findLikedQuestionIds(7L, List.of(1L, 2L));
+
+        // then
+        assertEquals(Set.of(2L), liked);
+        downFactory.destroy();
+    }
+}
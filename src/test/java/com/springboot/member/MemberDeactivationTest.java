@@ -0,0 +1,89 @@
+package com.springboot.member;
+
+import com.springboot.auth.token.TokenStore;
+import com.springboot.member.entity.Member;
+import com.springboot.member.repository.MemberRepository;
+import com.springboot.member.service.MemberService;
+import com.springboot.question.service.QuestionCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 질문 10,000개를 쓴 회원의 탈퇴 지연 시간 (질문은 엔티티가 아닌 UPDATE 한 번으로 비활성화)
+@SpringBootTest(properties = {"jwt.token-store=memory", "question.page-cache.fan-out=none",
+        "spring.jpa.show-sql=false", "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn"})
+class MemberDeactivationTest {
+    private static final Logger log = LoggerFactory.getLogger(MemberDeactivationTest.class);
+    private static final int QUESTIONS = 10_000;
+
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TokenStore tokenStore;
+    @Autowired
+    private QuestionCounter questionCounter;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member member;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM question WHERE member_id = ?", member.getMemberId());
+        memberRepository.delete(member);
+    }
+
+    @Test
+    public void prolificMemberIsDeactivatedInBulkTest() throws InterruptedException {
+        // given
+        member = new Member();
+        member.setEmail("prolific@gmail.com");
+        member.setPassword("1111");
+        member.setName("다작");
+        member.setPhone("010-5555-0000");
+        member = memberRepository.save(member);
+        long memberId = member.getMemberId();
+        jdbcTemplate.batchUpdate("INSERT INTO question (title, content, question_status, visibility, view_count, like_count, "
+                        + "member_id, created_at, last_modified_at) "
+                        + "VALUES (?, '내용', 'QUESTION_REGISTERED', 'QUESTION_PUBLIC', 0, 0, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                IntStream.range(0, QUESTIONS)
+                        .mapToObj(i -> new Object[]{"질문" + i, memberId})
+                        .collect(Collectors.toList()));
+        tokenStore.register(member.getEmail(), "access", "refresh", Duration.ofMinutes(30), Duration.ofMinutes(420));
+        // SQL 로 넣은 질문까지 목록 질문 수에 반영
+        questionCounter.reconcile();
+        long listedQuestions = questionCounter.get();
+
+        // when
+        long startedAt = System.nanoTime();
+        memberService.deleteMember(memberId, memberId);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then
+        log.info("# member deactivation : questions={}, {}ms", QUESTIONS, elapsedMillis);
+        assertEquals(Member.MemberStatus.MEMBER_QUIT, memberRepository.findById(memberId).orElseThrow().getMemberStatus());
+        assertEquals(QUESTIONS, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM question WHERE member_id = ? AND question_status = 'QUESTION_DEACTIVED'",
+                Integer.class, memberId));
+        assertFalse(tokenStore.exists(member.getEmail()));
+        // 질문 수는 커밋 후 비동기로 감소
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (questionCounter.get() != listedQuestions - QUESTIONS && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(listedQuestions - QUESTIONS, questionCounter.get());
+    }
+}
@@ -0,0 +1,98 @@
+package com.springboot.question;
+
+import com.springboot.question.dto.QuestionDto;
+import com.springboot.question.entity.Question;
+import com.springboot.question.ranking.HotQuestionRanking;
+import com.springboot.question.repository.QuestionRepository;
+import com.springboot.question.viewer.InMemoryUniqueViewerCounter;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+class HotQuestionRankingTest {
+    private final QuestionRepository questionRepository = Mockito.mock(QuestionRepository.class);
+    // 반감기 12시간, 등록 1 / 좋아요 3 / 조회 0.1 / 답변 5, 최대 3개 노출
+    private final HotQuestionRanking hotQuestionRanking = new HotQuestionRanking(questionRepository,
+            new InMemoryUniqueViewerCounter(10_000, 30), 3, 4, 12, 1.0, 3.0, 0.1, 5.0, 7);
+
+    @Test
+    public void scoresDecayWithAgeAndRiseWithLikesTest() {
+        // given : 1일 전 좋아요 2개 (7 / 4), 방금 등록 (1), 2일 전 좋아요 4개 (13 / 16)
+        LocalDateTime now = LocalDateTime.now();
+        given(questionRepository.findHotCandidates(any(), anyLong(), anyBoolean(), any())).willReturn(List.of(
+                response(1L, 2, now.minusDays(1)), response(2L, 0, now), response(3L, 4, now.minusDays(2))));
+        hotQuestionRanking.rebuild();
+        assertEquals(List.of(1L, 2L, 3L), questionIds(hotQuestionRanking.findPage(1, 10)));
+
+        // when : 방금 등록된 질문에 좋아요 1개 (1 + 3)
+        hotQuestionRanking.recordLike(2L, 1);
+
+        // then
+        assertEquals(List.of(2L, 1L, 3L), questionIds(hotQuestionRanking.findPage(1, 10)));
+    }
+
+    @Test
+    public void pagesAreLimitedToTopKTest() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(questionRepository.findHotCandidates(any(), anyLong(), anyBoolean(), any())).willReturn(List.of(
+                response(1L, 3, now), response(2L, 2, now), response(3L, 1, now), response(4L, 0, now)));
+        hotQuestionRanking.rebuild();
+
+        // when
+        Page<QuestionDto.Response> first = hotQuestionRanking.findPage(1, 2);
+        Page<QuestionDto.Response> second = hotQuestionRanking.findPage(2, 2);
+
+        // then : 4번째 질문은 top-k 밖
+        assertEquals(List.of(1L, 2L), questionIds(first));
+        assertEquals(List.of(3L), questionIds(second));
+        assertEquals(3, first.getTotalElements());
+    }
+
+    @Test
+    public void untrackedActivityIsIgnoredAndCreatedQuestionIsAddedTest() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(questionRepository.findHotCandidates(any(), anyLong(), anyBoolean(), any()))
+                .willReturn(List.of(response(1L, 0, now)));
+        given(questionRepository.findQuestionResponseById(eq(3L), anyLong(), anyBoolean()))
+                .willReturn(Optional.of(response(3L, 0, now)));
+        hotQuestionRanking.rebuild();
+
+        // when : 목록 밖의 질문 2 조회, 새 질문 3 등록 후 좋아요
+        hotQuestionRanking.recordView(2L);
+        hotQuestionRanking.recordLike(2L, 1);
+        hotQuestionRanking.recordCreated(3L);
+        hotQuestionRanking.recordLike(3L, 1);
+
+        // then : 질문 2 는 DB 조회 없이 무시, 질문 3 은 등록 시 한 번만 조회
+        assertEquals(List.of(3L, 1L), questionIds(hotQuestionRanking.findPage(1, 10)));
+        Mockito.verify(questionRepository, Mockito.never()).findQuestionResponseById(eq(2L), anyLong(), anyBoolean());
+        Mockito.verify(questionRepository, Mockito.times(1)).findQuestionResponseById(eq(3L), anyLong(), anyBoolean());
+
+        hotQuestionRanking.remove(3L);
+        assertEquals(List.of(1L), questionIds(hotQuestionRanking.findPage(1, 10)));
+    }
+
+    private static QuestionDto.Response response(long questionId, int likeCount, LocalDateTime createdAt) {
+        return new QuestionDto.Response(questionId, "title" + questionId, "content", Question.QuestionStatus.QUESTION_REGISTERED,
+                Question.Visibility.QUESTION_PUBLIC, 0, 1L, "member", null, null, null, null,
+                "noImage.png", likeCount, createdAt, createdAt);
+    }
+
+    private static List<Long> questionIds(Page<QuestionDto.Response> page) {
+        return page.getContent().stream().map(QuestionDto.Response::getQuestionId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,80 @@
+package com.springboot.question;
+
+import com.springboot.question.viewer.HyperLogLog;
+import com.springboot.question.viewer.InMemoryUniqueViewerCounter;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+    @Test
+    public void estimateIsCloseToExactCountTest(){
+        for (int viewers : new int[]{100, 1_000, 10_000, 100_000, 1_000_000}) {
+            // given
+            HyperLogLog sketch = new HyperLogLog();
+            Set<Long> exact = new HashSet<>();
+
+            // when : 같은 회원이 여러 번 조회
+            for (int view = 0; view < viewers * 3; view++) {
+                long memberId = view % viewers + 1;
+                sketch.offer(memberId);
+                exact.add(memberId);
+            }
+
+            // then : 표준 오차 1.6% 의 3배 이내, 크기는 조회자 수와 상관없이 4KB
+            double error = Math.abs(sketch.estimate() - exact.size()) / (double) exact.size();
+            assertTrue(error < 0.05, viewers + " viewers, error " + error);
+            assertEquals(4096, sketch.sizeInBytes());
+        }
+    }
+
+    @Test
+    public void concurrentOfferTest() throws Exception{
+        // given
+        HyperLogLog sketch = new HyperLogLog();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when : 8개 스레드가 같은 조회자 50,000 명을 나눠서 기록
+        for (int thread = 0; thread < 8; thread++) {
+            int offset = thread;
+            executor.submit(() -> {
+                for (long memberId = offset; memberId < 50_000; memberId += 4) {
+                    sketch.offer(memberId);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // then : 단일 스레드로 기록한 것과 같은 레지스터
+        HyperLogLog expected = new HyperLogLog();
+        for (long memberId = 0; memberId < 50_000; memberId++) {
+            expected.offer(memberId);
+        }
+        assertEquals(expected.estimate(), sketch.estimate());
+    }
+
+    @Test
+    public void inMemoryCounterKeepsRecentlyViewedQuestionsTest() throws Exception{
+        // given : 최대 2개 질문, 질문 1 이 가장 오래전에 조회됨
+        InMemoryUniqueViewerCounter counter = new InMemoryUniqueViewerCounter(2, 30);
+        for (long questionId = 1; questionId <= 3; questionId++) {
+            counter.record(questionId, 1L);
+            Thread.sleep(5);
+        }
+
+        // when
+        counter.evict();
+
+        // then : 제거된 질문은 0 부터 다시 집계
+        assertEquals(2, counter.size());
+        assertEquals(0, counter.estimate(1L));
+        assertEquals(1, counter.estimate(3L));
+    }
+}
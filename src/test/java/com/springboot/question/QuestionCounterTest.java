@@ -0,0 +1,67 @@
+package com.springboot.question;
+
+import com.springboot.question.repository.QuestionRepository;
+import com.springboot.question.service.QuestionCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+class QuestionCounterTest {
+    private final QuestionRepository questionRepository = Mockito.mock(QuestionRepository.class);
+    private final QuestionCounter questionCounter = new QuestionCounter(questionRepository);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void addInTransactionIsAppliedAfterCommitTest() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        questionCounter.add(3);
+
+        // then : 커밋 전에는 반영 X
+        assertEquals(0, questionCounter.get());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(3, questionCounter.get());
+    }
+
+    @Test
+    public void addInRolledBackTransactionIsIgnoredTest() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        questionCounter.add(-2);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        assertEquals(0, questionCounter.get());
+    }
+
+    @Test
+    public void reconcileReplacesDriftedCountTest() {
+        // given : 증감이 누락되어 실제 개수와 다름
+        questionCounter.add(5);
+        given(questionRepository.countQuestionsWithoutDeactivated()).willReturn(8L);
+
+        // when
+        questionCounter.reconcile();
+
+        // then
+        assertEquals(8, questionCounter.get());
+        questionCounter.add(1);
+        assertEquals(9, questionCounter.get());
+    }
+}
@@ -0,0 +1,166 @@
+package com.springboot.question;
+
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import com.springboot.member.entity.Member;
+import com.springboot.member.repository.MemberRepository;
+import com.springboot.question.dto.QuestionDto;
+import com.springboot.question.entity.Question;
+import com.springboot.question.service.QuestionCursor;
+import com.springboot.question.service.QuestionService;
+import com.springboot.question.service.QuestionSortType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 커서 인코딩 / 검증과 커서로 모든 페이지를 끝까지 조회했을 때 누락 / 중복 여부
+@SpringBootTest(properties = {"jwt.token-store=memory", "question.page-cache.fan-out=none"})
+class QuestionCursorTest {
+    private static final int QUESTIONS = 37;
+    private static final int PAGE_SIZE = 5;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_456_000);
+    // 정렬 조건별 정렬 컬럼
+    private static final Map<QuestionSortType, String> SORT_COLUMNS = Map.of(
+            QuestionSortType.NEWEST, "created_at DESC, question_id DESC",
+            QuestionSortType.OLDEST, "created_at ASC, question_id ASC",
+            QuestionSortType.MOSTLIKES, "like_count DESC, question_id DESC",
+            QuestionSortType.LEASTLIKES, "like_count ASC, question_id ASC",
+            QuestionSortType.MOSTVIEWS, "view_count DESC, question_id DESC",
+            QuestionSortType.LEASTVIEWS, "view_count ASC, question_id ASC");
+
+    @Autowired
+    private QuestionService questionService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member member;
+
+    @BeforeEach
+    void init() {
+        member = new Member();
+        member.setEmail("cursor@gmail.com");
+        member.setPassword("1111");
+        member.setName("커서");
+        member.setPhone("010-6666-0000");
+        member = memberRepository.save(member);
+        long memberId = member.getMemberId();
+        // 작성 시각 / 좋아요 수 / 조회수가 같은 질문이 여러 개 (questionId 로 순서 결정), 일부는 비활성화
+        jdbcTemplate.batchUpdate("INSERT INTO question (title, content, question_status, visibility, view_count, like_count, "
+                        + "member_id, created_at, last_modified_at) VALUES (?, '내용', ?, 'QUESTION_PUBLIC', ?, ?, ?, ?, ?)",
+                IntStream.range(0, QUESTIONS)
+                        .mapToObj(i -> new Object[]{"질문" + i,
+                                i % 10 == 3 ? "QUESTION_DEACTIVED" : "QUESTION_REGISTERED",
+                                i % 4, i % 3, memberId,
+                                Timestamp.valueOf(CREATED_AT.plusSeconds(i % 5)), Timestamp.valueOf(CREATED_AT)})
+                        .collect(Collectors.toList()));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM question WHERE member_id = ?", member.getMemberId());
+        memberRepository.delete(member);
+    }
+
+    @Test
+    public void encodedCursorIsDecodedWithSameValuesTest() {
+        // given
+        QuestionDto.Response question = response(42L, 7, 3, CREATED_AT);
+
+        for (QuestionSortType sortType : SORT_COLUMNS.keySet()) {
+            // when
+            QuestionCursor decoded = QuestionCursor.decode(QuestionCursor.of(sortType, question).encode(), sortType);
+
+            // then
+            assertEquals(sortType, decoded.getSortType());
+            assertEquals(42L, decoded.getQuestionId());
+            if (sortType == QuestionSortType.NEWEST || sortType == QuestionSortType.OLDEST) {
+                assertEquals(CREATED_AT, decoded.getCreatedAt());
+            } else if (sortType == QuestionSortType.MOSTLIKES || sortType == QuestionSortType.LEASTLIKES) {
+                assertEquals(3, decoded.getCount());
+            } else {
+                assertEquals(7, decoded.getCount());
+            }
+        }
+    }
+
+    @Test
+    public void cursorFromOtherSortIsRejectedTest() {
+        // given
+        String cursor = QuestionCursor.of(QuestionSortType.MOSTLIKES, response(42L, 7, 3, CREATED_AT)).encode();
+
+        // when / then
+        assertInvalid(cursor, QuestionSortType.LEASTLIKES);
+        assertInvalid(cursor, QuestionSortType.NEWEST);
+    }
+
+    @Test
+    public void tamperedCursorIsRejectedTest() {
+        assertInvalid("not base64!", QuestionSortType.NEWEST);
+        assertInvalid(encode("NEWEST"), QuestionSortType.NEWEST);
+        assertInvalid(encode("NEWEST:42"), QuestionSortType.NEWEST);
+        assertInvalid(encode("NEWEST:yesterday:42"), QuestionSortType.NEWEST);
+        assertInvalid(encode("MOSTLIKES:3:abc"), QuestionSortType.MOSTLIKES);
+        assertInvalid(encode("MOSTLIKES:many:42"), QuestionSortType.MOSTLIKES);
+        assertInvalid(encode("UNKNOWN:3:42"), QuestionSortType.MOSTLIKES);
+    }
+
+    @Test
+    public void cursorPagesCoverAllQuestionsInOrderTest() {
+        for (Map.Entry<QuestionSortType, String> entry : SORT_COLUMNS.entrySet()) {
+            // given : 같은 정렬 값은 questionId 로 순서 고정
+            QuestionSortType sortType = entry.getKey();
+            List<Long> expected = jdbcTemplate.queryForList("SELECT question_id FROM question "
+                    + "WHERE question_status != 'QUESTION_DEACTIVED' ORDER BY " + entry.getValue(), Long.class);
+
+            // when : 다음 커서가 없을 때까지 조회
+            List<Long> walked = new ArrayList<>();
+            String cursor = null;
+            do {
+                Slice<QuestionDto.Response> slice = questionService.findQuestionsByCursor(cursor, PAGE_SIZE,
+                        sortType.name(), member.getMemberId(), true);
+                assertTrue(slice.getContent().size() <= PAGE_SIZE);
+                slice.getContent().forEach(response -> walked.add(response.getQuestionId()));
+                cursor = questionService.createNextCursor(slice, sortType.name());
+            } while (cursor != null);
+
+            // then : 누락 / 중복 없이 같은 순서
+            assertEquals(expected, walked, sortType.name());
+            assertEquals(walked.size(), new HashSet<>(walked).size());
+        }
+    }
+
+    private static void assertInvalid(String cursor, QuestionSortType sortType) {
+        BusinessLogicException exception = assertThrows(BusinessLogicException.class,
+                () -> QuestionCursor.decode(cursor, sortType));
+        assertEquals(ExceptionCode.INVALID_CURSOR, exception.getExceptionCode());
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static QuestionDto.Response response(long questionId, int viewCount, int likeCount, LocalDateTime createdAt) {
+        return new QuestionDto.Response(questionId, "제목", "내용", Question.QuestionStatus.QUESTION_REGISTERED,
+                Question.Visibility.QUESTION_PUBLIC, viewCount, 1L, "작성자", null, null, null, null,
+                null, likeCount, createdAt, createdAt);
+    }
+}
@@ -0,0 +1,82 @@
+package com.springboot.question;
+
+import com.springboot.question.cache.QuestionPageCache;
+import com.springboot.question.dto.QuestionDto;
+import com.springboot.question.entity.Question;
+import com.springboot.question.service.QuestionSortType;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuestionPageCacheTest {
+    private final QuestionPageCache questionPageCache = new QuestionPageCache(null, 3, 50, 30, "none");
+
+    @Test
+    public void evictQuestionRemovesOnlyPagesContainingQuestionTest(){
+        // given
+        questionPageCache.put(QuestionSortType.NEWEST, 1, 2, page(1L, 2L), questionPageCache.generation());
+        questionPageCache.put(QuestionSortType.NEWEST, 2, 2, page(3L, 4L), questionPageCache.generation());
+        questionPageCache.put(QuestionSortType.MOSTLIKES, 1, 2, page(4L, 1L), questionPageCache.generation());
+
+        // when
+        questionPageCache.evictQuestion(1L);
+
+        // then
+        assertNull(questionPageCache.get(QuestionSortType.NEWEST, 1, 2));
+        assertNull(questionPageCache.get(QuestionSortType.MOSTLIKES, 1, 2));
+        assertNotNull(questionPageCache.get(QuestionSortType.NEWEST, 2, 2));
+
+        questionPageCache.evictSorts(QuestionSortType.NEWEST);
+        assertEquals(0, questionPageCache.size());
+    }
+
+    @Test
+    public void pageLoadedBeforeInvalidationIsNotCachedTest(){
+        // given : 조회 시작 후 다른 요청이 질문 수정
+        long generation = questionPageCache.generation();
+        questionPageCache.evictQuestion(9L);
+
+        // when
+        questionPageCache.put(QuestionSortType.NEWEST, 1, 2, page(1L, 2L), generation);
+
+        // then
+        assertNull(questionPageCache.get(QuestionSortType.NEWEST, 1, 2));
+    }
+
+    @Test
+    public void hideSecretTitleKeepsCachedTitleTest(){
+        // given : 1번 회원의 비밀글
+        QuestionDto.Response cached = response(1L, Question.Visibility.QUESTION_SECRET);
+
+        // when
+        QuestionDto.Response other = cached.hideSecretTitle(2L, false);
+        QuestionDto.Response writer = cached.hideSecretTitle(1L, false);
+        QuestionDto.Response admin = cached.hideSecretTitle(2L, true);
+
+        // then
+        assertEquals(QuestionDto.Response.SECRET_TITLE, other.getTitle());
+        assertEquals("질문1", cached.getTitle());
+        assertSame(cached, writer);
+        assertSame(cached, admin);
+    }
+
+    private Page<QuestionDto.Response> page(long... questionIds){
+        List<QuestionDto.Response> content = new ArrayList<>();
+        for(long questionId : questionIds){
+            content.add(response(questionId, Question.Visibility.QUESTION_PUBLIC));
+        }
+        return new PageImpl<>(content, PageRequest.of(0, questionIds.length), 10);
+    }
+
+    private QuestionDto.Response response(long questionId, Question.Visibility visibility){
+        return new QuestionDto.Response(questionId, "질문" + questionId, "내용", Question.QuestionStatus.QUESTION_REGISTERED,
+                visibility, 0, 1L, "작성자", null, "noImage.png", 0, LocalDateTime.now(), LocalDateTime.now(), 0L, false);
+    }
+}
@@ -0,0 +1,143 @@
+package com.springboot.question;
+
+import com.springboot.member.entity.Member;
+import com.springboot.question.entity.Question;
+import com.springboot.question.repository.QuestionRepository;
+import com.springboot.question.service.QuestionSortType;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 목록 조회 쿼리가 인덱스 없이 question 테이블 전체를 읽으면 실패 (H2 EXPLAIN 의 tableScan)
+// count 쿼리는 조건에 맞는 행을 모두 세야 하므로 제외 (slice / cursor 모드는 count 없음)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.springboot.question.QuestionQueryPlanTest$SqlCollector")
+class QuestionQueryPlanTest {
+    private static final List<String> COLLECTED_SQL = new ArrayList<>();
+    // created_at 과 비교하는 파라미터만 시간 값, 나머지는 숫자로 바인딩
+    private static final Pattern TIMESTAMP_PARAMETER = Pattern.compile("created_at\\s*[<>=]+\\s*$");
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private long memberId;
+
+    public static class SqlCollector implements StatementInspector {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public String inspect(String sql) {
+            COLLECTED_SQL.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    public void init(){
+        // 작성자 10명이 질문 20개씩
+        List<Member> members = new ArrayList<>();
+        for(int i = 0; i < 10; i++){
+            Member member = new Member();
+            member.setEmail("plan" + i + "@gmail.com");
+            member.setPassword("1111");
+            member.setName("플랜" + i);
+            member.setPhone("010-3333-000" + i);
+            testEntityManager.persist(member);
+            members.add(member);
+        }
+        memberId = members.get(0).getMemberId();
+        for(int i = 0; i < 200; i++){
+            Question question = new Question();
+            question.setTitle("질문" + i);
+            question.setContent("내용" + i);
+            question.setLikeCount(i % 7);
+            question.setViewCount(i % 11);
+            question.setMember(members.get(i % members.size()));
+            testEntityManager.persist(question);
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        COLLECTED_SQL.clear();
+    }
+
+    @Test
+    public void listingQueriesUseIndexTest() throws Exception {
+        // given : 정렬 조건별 page, slice, mine, cursor 조회 쿼리 수집
+        LocalDateTime now = LocalDateTime.now();
+        for(QuestionSortType sortType : QuestionSortType.values()){
+            Pageable pageable = PageRequest.of(1, 10, sortType.getSort());
+            questionRepository.findQuestionResponsesWithoutDeactivated(memberId, false, pageable);
+            questionRepository.findQuestionResponseSliceWithoutDeactivated(memberId, false, pageable);
+            questionRepository.findMyQuestionResponses(memberId, false, pageable);
+            questionRepository.findFirstQuestionResponses(memberId, false, PageRequest.of(0, 11, sortType.getSort()));
+        }
+        Pageable newest = PageRequest.of(0, 11, QuestionSortType.NEWEST.getSort());
+        questionRepository.findQuestionResponsesCreatedBefore(now, 100, memberId, false, newest);
+        questionRepository.findQuestionResponsesCreatedAfter(now, 100, memberId, false,
+                PageRequest.of(0, 11, QuestionSortType.OLDEST.getSort()));
+        questionRepository.findQuestionResponsesWithLessLikes(3, 100, memberId, false,
+                PageRequest.of(0, 11, QuestionSortType.MOSTLIKES.getSort()));
+        questionRepository.findQuestionResponsesWithMoreLikes(3, 100, memberId, false,
+                PageRequest.of(0, 11, QuestionSortType.LEASTLIKES.getSort()));
+        questionRepository.findQuestionResponsesWithLessViews(3, 100, memberId, false,
+                PageRequest.of(0, 11, QuestionSortType.MOSTVIEWS.getSort()));
+        questionRepository.findQuestionResponsesWithMoreViews(3, 100, memberId, false,
+                PageRequest.of(0, 11, QuestionSortType.LEASTVIEWS.getSort()));
+
+        List<String> listingSql = new ArrayList<>();
+        COLLECTED_SQL.stream()
+                .filter(sql -> !sql.toLowerCase().contains("count("))
+                .forEach(listingSql::add);
+        assertFalse(listingSql.isEmpty());
+
+        // when, then
+        try(Connection connection = dataSource.getConnection()){
+            for(String sql : listingSql){
+                String plan = explain(connection, sql);
+                assertFalse(plan.contains("QUESTION.tableScan"), () -> "full scan :\n" + plan);
+            }
+        }
+    }
+
+    private String explain(Connection connection, String sql) throws Exception {
+        try(PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)){
+            int index = 1;
+            Matcher matcher = Pattern.compile("\\?").matcher(sql);
+            while(matcher.find()){
+                if(TIMESTAMP_PARAMETER.matcher(sql.substring(0, matcher.start())).find()){
+                    statement.setTimestamp(index++, Timestamp.valueOf(LocalDateTime.now()));
+                } else {
+                    statement.setLong(index++, 1L);
+                }
+            }
+            try(ResultSet resultSet = statement.executeQuery()){
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+}
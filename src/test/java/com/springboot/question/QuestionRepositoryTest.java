@@ -0,0 +1,138 @@
+package com.springboot.question;
+
+import com.springboot.answer.entity.Answer;
+import com.springboot.member.entity.Member;
+import com.springboot.question.dto.QuestionDto;
+import com.springboot.question.entity.Question;
+import com.springboot.question.repository.QuestionRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class QuestionRepositoryTest {
+    private static final int QUESTION_COUNT = 50;
+
+    private long writerId;
+    private long otherMemberId;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    public void init(){
+        // 작성자 5명, 질문 50개 중 절반에 답변, 작성자별 첫 질문은 비밀글
+        for(int i = 0; i < 5; i++){
+            Member member = new Member();
+            member.setEmail("writer" + i + "@gmail.com");
+            member.setPassword("1111");
+            member.setName("작성자" + i);
+            member.setPhone("010-2222-000" + i);
+            testEntityManager.persist(member);
+            if(i == 0){
+                writerId = member.getMemberId();
+            } else {
+                otherMemberId = member.getMemberId();
+            }
+
+            for(int j = 0; j < QUESTION_COUNT / 5; j++){
+                Question question = new Question();
+                question.setTitle("질문" + j);
+                question.setContent("내용" + j);
+                question.setMember(member);
+                if(j == 0){
+                    question.setVisibility(Question.Visibility.QUESTION_SECRET);
+                }
+                testEntityManager.persist(question);
+
+                if(j % 2 == 0){
+                    Answer answer = new Answer();
+                    answer.setContent("답변" + j);
+                    answer.setMember(member);
+                    answer.setQuestion(question);
+                    testEntityManager.persist(answer);
+                }
+            }
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    public void findQuestionResponsesWithoutN1Test(){
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        Page<QuestionDto.Response> page = questionRepository.findQuestionResponsesWithoutDeactivated(writerId, false,
+                PageRequest.of(0, QUESTION_COUNT, Sort.by("questionId").descending()));
+
+        // then : 목록 조회 1번 + count 1번, 작성자 / 답변 추가 조회 없음
+        assertEquals(QUESTION_COUNT, page.getContent().size());
+        assertEquals(QUESTION_COUNT / 2, page.getContent().stream().filter(response -> response.getAnswer() != null).count());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    public void hideSecretTitleInQueryTest(){
+        // given
+        PageRequest pageable = PageRequest.of(0, QUESTION_COUNT, Sort.by("questionId").descending());
+
+        // when
+        Page<QuestionDto.Response> writerPage = questionRepository.findQuestionResponsesWithoutDeactivated(writerId, false, pageable);
+        Page<QuestionDto.Response> adminPage = questionRepository.findQuestionResponsesWithoutDeactivated(otherMemberId, true, pageable);
+
+        // then : 작성자는 자기 비밀글 제목만 보고, 관리자는 전부 봄
+        assertEquals(4, writerPage.getContent().stream().filter(response -> response.getTitle().equals("비밀글입니다.")).count());
+        assertTrue(writerPage.getContent().stream()
+                .filter(response -> response.getMemberId() == writerId)
+                .noneMatch(response -> response.getTitle().equals("비밀글입니다.")));
+        assertTrue(adminPage.getContent().stream().noneMatch(response -> response.getTitle().equals("비밀글입니다.")));
+    }
+
+    @Test
+    public void findMyQuestionResponsesTest(){
+        // when
+        Page<QuestionDto.Response> page = questionRepository.findMyQuestionResponses(writerId, false,
+                PageRequest.of(0, QUESTION_COUNT, Sort.by("createdAt").descending()));
+
+        // then
+        assertEquals(QUESTION_COUNT / 5, page.getTotalElements());
+        assertTrue(page.getContent().stream().allMatch(response -> response.getMemberId() == writerId));
+    }
+
+    @Test
+    public void addViewCountTest(){
+        // given
+        List<Long> questionIds = questionRepository.findAll().stream().limit(3).map(Question::getQuestionId).collect(Collectors.toList());
+
+        // when
+        int updated = questionRepository.addViewCount(5, questionIds);
+        testEntityManager.clear();
+
+        // then
+        assertEquals(3, updated);
+        questionIds.forEach(questionId -> assertEquals(5, questionRepository.findById(questionId).get().getViewCount()));
+    }
+}
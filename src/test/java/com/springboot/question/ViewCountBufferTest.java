@@ -0,0 +1,154 @@
+package com.springboot.question;
+
+import com.springboot.question.cache.QuestionPageCache;
+import com.springboot.question.repository.QuestionRepository;
+import com.springboot.question.service.ViewCountBuffer;
+import com.springboot.question.viewer.InMemoryUniqueViewerCounter;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+
+class ViewCountBufferTest {
+    private final QuestionRepository questionRepository = Mockito.mock(QuestionRepository.class);
+    private final ViewCountBuffer viewCountBuffer =
+            new ViewCountBuffer(questionRepository, new QuestionPageCache(null, 3, 50, 30, "none"),
+                    new InMemoryUniqueViewerCounter(10_000, 30), false);
+    // DB 에 반영된 조회수
+    private final Map<Long, Long> flushedViews = new ConcurrentHashMap<>();
+
+    @Test
+    public void concurrentViewsAreFlushedExactlyOnceTest() throws Exception {
+        // given
+        given(questionRepository.addViewCount(anyInt(), anyCollection())).willAnswer(invocation -> {
+            int delta = invocation.getArgument(0);
+            Collection<Long> questionIds = invocation.getArgument(1);
+            questionIds.forEach(questionId -> flushedViews.merge(questionId, (long) delta, Long::sum));
+            return questionIds.size();
+        });
+        int threads = 16;
+        int viewsPerThread = 5_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when : 조회 중에도 계속 flush
+        for(int i = 0; i < threads; i++){
+            futures.add(executorService.submit(() -> {
+                start.await();
+                for(int view = 0; view < viewsPerThread; view++){
+                    viewCountBuffer.record(view % 4);
+                }
+                return null;
+            }));
+        }
+        Future<?> flusher = executorService.submit(() -> {
+            start.await();
+            while(futures.stream().anyMatch(future -> !future.isDone())){
+                viewCountBuffer.flush();
+            }
+            return null;
+        });
+        start.countDown();
+        for(Future<?> future : futures){
+            future.get(30, TimeUnit.SECONDS);
+        }
+        flusher.get(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+        viewCountBuffer.drain();
+
+        // then
+        for(long questionId = 0; questionId < 4; questionId++){
+            assertEquals(threads * viewsPerThread / 4, flushedViews.get(questionId));
+        }
+    }
+
+    @Test
+    public void viewsDuringCounterRemovalAreNotLostTest() throws Exception {
+        // given : 질문이 많고 조회가 드문드문 들어와 조회 중에도 Counter 가 제거됨
+        given(questionRepository.addViewCount(anyInt(), anyCollection())).willAnswer(invocation -> {
+            int delta = invocation.getArgument(0);
+            Collection<Long> questionIds = invocation.getArgument(1);
+            questionIds.forEach(questionId -> flushedViews.merge(questionId, (long) delta, Long::sum));
+            return questionIds.size();
+        });
+        int threads = 8;
+        int viewsPerThread = 20_000;
+        int questions = 256;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for(int i = 0; i < threads; i++){
+            int offset = i * 31;
+            futures.add(executorService.submit(() -> {
+                start.await();
+                for(int view = 0; view < viewsPerThread; view++){
+                    viewCountBuffer.record((view * 7L + offset) % questions);
+                    if(view % 64 == 0){
+                        Thread.yield();
+                    }
+                }
+                return null;
+            }));
+        }
+        Future<?> flusher = executorService.submit(() -> {
+            start.await();
+            while(futures.stream().anyMatch(future -> !future.isDone())){
+                viewCountBuffer.flush();
+            }
+            return null;
+        });
+        start.countDown();
+        for(Future<?> future : futures){
+            future.get(30, TimeUnit.SECONDS);
+        }
+        flusher.get(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+        viewCountBuffer.drain();
+
+        // then
+        Map<Long, Long> expectedViews = new ConcurrentHashMap<>();
+        for(int i = 0; i < threads; i++){
+            for(int view = 0; view < viewsPerThread; view++){
+                expectedViews.merge((view * 7L + i * 31) % questions, 1L, Long::sum);
+            }
+        }
+        assertEquals(expectedViews, flushedViews);
+    }
+
+    @Test
+    public void failedFlushIsRetriedTest(){
+        // given
+        given(questionRepository.addViewCount(anyInt(), anyCollection()))
+                .willThrow(new QueryTimeoutException("timeout"))
+                .willReturn(1);
+        viewCountBuffer.record(1L);
+        viewCountBuffer.record(1L);
+
+        // when
+        viewCountBuffer.flush();
+
+        // then : 실패한 증가분은 다음 flush 에서 한 번만 다시 반영
+        viewCountBuffer.flush();
+        viewCountBuffer.flush();
+        Mockito.verify(questionRepository, Mockito.times(2)).addViewCount(Mockito.eq(2), Mockito.eq(List.of(1L)));
+        Mockito.verify(questionRepository, Mockito.times(2)).addViewCount(anyInt(), anyCollection());
+    }
+}